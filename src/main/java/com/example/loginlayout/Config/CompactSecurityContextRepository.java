@@ -0,0 +1,125 @@
+package com.example.loginlayout.Config;
+
+import com.example.loginlayout.DTO.MemberUserDetails;
+import com.example.loginlayout.DTO.SessionMember;
+import com.example.loginlayout.DTO.SessionMemberAuthentication;
+import com.example.loginlayout.Service.SessionTrackingService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.DeferredSecurityContext;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.context.SecurityContextImpl;
+import org.springframework.security.web.context.HttpSessionSecurityContextRepository;
+import org.springframework.stereotype.Component;
+
+/**
+ * CompactSecurityContextRepository
+ *
+ * ▶ 역할
+ * - 세션에 SecurityContext 전체 대신 SessionMember(id, username, role) 하나만 저장
+ * - 요청마다 SessionMember로부터 인증 정보를 복원
+ *
+ * ▶ 처리 흐름
+ * 1. 로그인 성공 시 saveContext() → 인증 정보에서 SessionMember 추출 후 세션에 저장
+ * 2. 요청 시 loadDeferredContext() → 실제로 필요할 때 SessionMember를 읽어 인증 정보 생성
+ * 3. 로그아웃/익명 사용자면 세션의 회원 정보 제거
+ *
+ * ▶ 특징
+ * - 권한 목록은 세션에 저장하지 않음, 복원한 인증 정보(SessionMemberAuthentication)가
+ *   RoleType.getAuthorities() 불변 목록을 복사 없이 반환
+ * - 세션 접근과 최대 세션 수 관리, H2 복원은 SessionTrackingService가 담당
+ * - servlet(MVC) 스택 전용, reactive 프로필에서는 비활성화
+ */
+@Component
+@Profile("!reactive")
+@RequiredArgsConstructor
+public class CompactSecurityContextRepository extends HttpSessionSecurityContextRepository {
+
+    private final SessionTrackingService sessionTrackingService;
+
+    /**
+     * 세션의 SessionMember로 인증 정보 복원 (처음 사용할 때 1번만 조회)
+     *
+     * @param request 현재 요청
+     * @return 지연 조회 SecurityContext
+     */
+    @Override
+    public DeferredSecurityContext loadDeferredContext(HttpServletRequest request) {
+        return new DeferredSecurityContext() {
+            private SecurityContext context;
+            private boolean generated;
+
+            @Override
+            public SecurityContext get() {
+                if (context == null) {
+                    SessionMember member = sessionTrackingService.getMember(request);
+                    generated = member == null;
+                    context = generated
+                            ? SecurityContextHolder.getContextHolderStrategy().createEmptyContext()
+                            : new SecurityContextImpl(toAuthentication(member));
+                }
+                return context;
+            }
+
+            @Override
+            public boolean isGenerated() {
+                get();
+                return generated;
+            }
+        };
+    }
+
+    /**
+     * 인증 정보에서 SessionMember만 추출하여 세션에 저장
+     *
+     * @param context 저장할 SecurityContext
+     * @param request 현재 요청
+     * @param response 현재 응답
+     */
+    @Override
+    public void saveContext(SecurityContext context, HttpServletRequest request, HttpServletResponse response) {
+        SessionMember member = toMember(context.getAuthentication());
+        if (member == null) {
+            sessionTrackingService.removeMember(request);
+            return;
+        }
+        sessionTrackingService.setMember(request, member);
+    }
+
+    /**
+     * 세션에 로그인 회원 정보가 있는지 확인
+     *
+     * @param request 현재 요청
+     * @return 존재 여부
+     */
+    @Override
+    public boolean containsContext(HttpServletRequest request) {
+        return sessionTrackingService.hasMember(request);
+    }
+
+    //SessionMember → 인증 정보 (권한 목록 복사 없음)
+    private static Authentication toAuthentication(SessionMember member) {
+        return new SessionMemberAuthentication(member);
+    }
+
+    //인증 정보 → SessionMember (익명/미인증이면 null)
+    private static SessionMember toMember(Authentication authentication) {
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        Object principal = authentication.getPrincipal();
+        if (principal instanceof MemberUserDetails userDetails) {
+            return userDetails.getMember();
+        }
+        if (principal instanceof SessionMember member) {
+            return member;
+        }
+        return null;
+    }
+}
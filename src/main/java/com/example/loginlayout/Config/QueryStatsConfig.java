@@ -0,0 +1,82 @@
+package com.example.loginlayout.Config;
+
+import com.example.loginlayout.Service.MemberService;
+import com.example.loginlayout.Service.QueryStatsService;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+import javax.sql.DataSource;
+
+/**
+ * QueryStatsConfig
+ *
+ * ▶ 역할
+ * - SQL 통계 수집을 위한 프록시 설정 클래스
+ *
+ * ▶ 주요 기능
+ * - DataSource Bean을 QueryStatsJdbcProxy로 감싸 모든 SQL 실행을 기록
+ * - MemberService Bean을 프록시로 감싸 메서드별 집계 범위("MemberService.메서드명") 지정
+ *
+ * ▶ 처리 흐름
+ * 1. Bean 초기화가 끝나면 BeanPostProcessor가 대상 Bean인지 확인
+ * 2. DataSource → JDBC 프록시, MemberService → 메서드 인터셉터 프록시로 교체
+ * 3. HTTP 요청 단위 집계는 QueryStatsFilter가 담당
+ *
+ * ▶ 특징
+ * - BeanPostProcessor는 static @Bean으로 등록하여 다른 Bean보다 먼저 생성
+ * - QueryStatsService는 ObjectProvider로 필요한 시점에 조회
+ * - JDBC(servlet) 스택 전용, reactive 프로필에서는 비활성화
+ */
+@Configuration
+@Profile("!reactive")
+public class QueryStatsConfig {
+
+    /**
+     * SQL 통계 프록시 적용 BeanPostProcessor
+     *
+     * @param queryStatsService 통계 수집 서비스 (지연 조회)
+     * @return BeanPostProcessor 객체
+     */
+    @Bean
+    public static BeanPostProcessor queryStatsBeanPostProcessor(ObjectProvider<QueryStatsService> queryStatsService) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource) {
+                    return QueryStatsJdbcProxy.wrap(dataSource, queryStatsService.getObject());
+                }
+                if (bean instanceof MemberService) {
+                    return wrapService(bean, queryStatsService.getObject());
+                }
+                return bean;
+            }
+        };
+    }
+
+    /**
+     * 서비스 메서드 호출을 집계 범위로 감싸는 프록시 생성
+     *
+     * @param service 대상 서비스
+     * @param stats 통계 수집 서비스
+     * @return 프록시 서비스
+     */
+    private static Object wrapService(Object service, QueryStatsService stats) {
+        String prefix = service.getClass().getSimpleName() + ".";
+        ProxyFactory factory = new ProxyFactory(service);
+        factory.setProxyTargetClass(true);
+        factory.addAdvice((MethodInterceptor) invocation -> {
+            stats.begin(prefix + invocation.getMethod().getName());
+            try {
+                return invocation.proceed();
+            } finally {
+                stats.end();
+            }
+        });
+        return factory.getProxy();
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.loginlayout.Config;
+
+import com.example.loginlayout.Service.QueryStatsService;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Set;
+
+/**
+ * QueryStatsFilter
+ *
+ * ▶ 역할
+ * - HTTP 요청 1건을 SQL 통계 집계 범위("메서드 URL패턴")로 지정
+ *
+ * ▶ 처리 흐름
+ * 1. 요청 시작 시 QueryStatsService.begin() 호출
+ * 2. 필터 체인(Spring Security 포함) 실행
+ * 3. 요청 종료 시 컨트롤러 매핑 패턴으로 이름 결정 후 end(이름) 호출
+ *    → 쿼리 수 기준 초과 여부 확인 및 누적 (예: "GET /member/{id}")
+ *    → Spring Security가 처리하는 경로(/login, /logout)는 경로 그대로 (예: "POST /login")
+ *    → 그 밖에 매핑된 컨트롤러가 없으면(404 등) "POST unmapped" 처럼 합산
+ *
+ * ▶ 특징
+ * - Spring Security 필터보다 먼저 실행되어 로그인 처리(/login POST)의 SQL도 집계
+ * - 실제 URI 대신 매핑 패턴을 이름으로 사용하여 누적 통계 이름 수가 늘어나지 않음
+ * - 정적 리소스 요청, 워밍업 요청(WarmupRunner)은 집계하지 않음
+ * - servlet(MVC) 스택 전용, reactive 프로필에서는 비활성화
+ */
+@Component
+@Profile("!reactive")
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class QueryStatsFilter extends OncePerRequestFilter {
+    //매핑된 컨트롤러가 없는 요청의 이름
+    static final String UNMAPPED = "unmapped";
+    //컨트롤러 없이 Spring Security 필터가 처리하는 경로 (SecurityConfig의 로그인 처리/로그아웃 URL)
+    private static final Set<String> SECURITY_PATHS = Set.of("/login", "/logout");
+
+    private final QueryStatsService queryStatsService;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        return uri.startsWith("/css/") || uri.startsWith("/js/") || uri.startsWith("/img/")
+                || uri.startsWith("/scss/") || uri.startsWith("/vendor/")
+                || WarmupRunner.isWarmupRequest(request);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        queryStatsService.begin(request.getMethod());
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            queryStatsService.end(request.getMethod() + " " + patternOf(request));
+        }
+    }
+
+    //DispatcherServlet이 저장한 매핑 패턴 (없으면 보안 경로 또는 "unmapped")
+    private static String patternOf(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        if (pattern != null) {
+            return pattern.toString();
+        }
+        String path = request.getServletPath();
+        return SECURITY_PATHS.contains(path) ? path : UNMAPPED;
+    }
+}
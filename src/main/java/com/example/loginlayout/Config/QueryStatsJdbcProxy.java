@@ -0,0 +1,173 @@
+package com.example.loginlayout.Config;
+
+import com.example.loginlayout.Service.QueryStatsService;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * QueryStatsJdbcProxy
+ *
+ * ▶ 역할
+ * - DataSource → Connection → Statement → ResultSet 을 JDK 동적 프록시로 감싸
+ *   SQL 실행 횟수, 실행 시간, 행 수를 QueryStatsService에 전달
+ *
+ * ▶ 처리 흐름
+ * 1. getConnection() 결과를 Connection 프록시로 감쌈
+ * 2. prepareStatement()/createStatement() 결과를 Statement 프록시로 감쌈
+ * 3. setXxx(순번, 값) 호출 시 바인딩 값 보관 (setNull은 null로 보관, addBatch() 후 초기화)
+ * 4. execute*() 호출 시간을 재서 recordStatement() 호출
+ * 5. executeQuery() 결과 ResultSet은 next() 횟수를 세어 close() 때 recordRows() 호출
+ *
+ * ▶ 특징
+ * - 외부 라이브러리 없이 java.lang.reflect.Proxy만 사용
+ * - unwrap()/isWrapperFor()는 원본 객체로 위임되어 Hikari/Hibernate 동작에 영향 없음
+ */
+final class QueryStatsJdbcProxy {
+
+    private QueryStatsJdbcProxy() {
+    }
+
+    /**
+     * DataSource를 통계 수집용 프록시로 감쌈
+     *
+     * @param dataSource 원본 DataSource
+     * @param stats 통계 수집 서비스
+     * @return 프록시 DataSource
+     */
+    static DataSource wrap(DataSource dataSource, QueryStatsService stats) {
+        Handler<DataSource> handler = (target, method, args) -> {
+            Object result = invoke(target, method, args);
+            if (result instanceof Connection connection) {
+                return wrapConnection(connection, stats);
+            }
+            return result;
+        };
+        //컨테이너 종료 시 커넥션 풀 close()가 호출되도록 Closeable도 유지
+        if (dataSource instanceof Closeable) {
+            return proxy(DataSource.class, dataSource, handler, Closeable.class);
+        }
+        return proxy(DataSource.class, dataSource, handler);
+    }
+
+    private static Connection wrapConnection(Connection connection, QueryStatsService stats) {
+        return proxy(Connection.class, connection, (target, method, args) -> {
+            Object result = invoke(target, method, args);
+            if (result instanceof CallableStatement statement) {
+                //prepareCall(sql, ...)
+                return wrapStatement(CallableStatement.class, statement, (String) args[0], stats);
+            }
+            if (result instanceof PreparedStatement statement) {
+                //prepareStatement(sql, ...)
+                return wrapStatement(PreparedStatement.class, statement, (String) args[0], stats);
+            }
+            if (result instanceof Statement statement) {
+                return wrapStatement(Statement.class, statement, null, stats);
+            }
+            return result;
+        });
+    }
+
+    private static <T extends Statement> T wrapStatement(Class<T> type, T statement, String preparedSql,
+                                                         QueryStatsService stats) {
+        Map<Integer, Object> params = new HashMap<>();
+        return proxy(type, statement, (target, method, args) -> {
+            String name = method.getName();
+            if (name.equals("setNull") && args != null && args[0] instanceof Integer index) {
+                //setNull(순번, SQL 타입): 두 번째 인자는 값이 아닌 타입 코드
+                params.put(index, null);
+                return invoke(target, method, args);
+            }
+            if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                params.put(index, args[1]);
+                return invoke(target, method, args);
+            }
+            if (name.equals("clearParameters") || name.equals("addBatch")) {
+                //배치의 다음 행 바인딩 값과 섞이지 않도록 초기화
+                params.clear();
+                return invoke(target, method, args);
+            }
+            if (!name.startsWith("execute")) {
+                return invoke(target, method, args);
+            }
+
+            String sql = args != null && args.length > 0 && args[0] instanceof String text ? text : preparedSql;
+            long start = System.nanoTime();
+            Object result = invoke(target, method, args);
+            long nanos = System.nanoTime() - start;
+
+            stats.recordStatement(sql, params, nanos, updatedRows(result));
+            if (result instanceof ResultSet resultSet) {
+                return wrapResultSet(resultSet, stats);
+            }
+            return result;
+        });
+    }
+
+    private static ResultSet wrapResultSet(ResultSet resultSet, QueryStatsService stats) {
+        long[] rows = new long[1];
+        boolean[] closed = new boolean[1];
+        return proxy(ResultSet.class, resultSet, (target, method, args) -> {
+            Object result = invoke(target, method, args);
+            if (method.getName().equals("next") && Boolean.TRUE.equals(result)) {
+                rows[0]++;
+            } else if (method.getName().equals("close") && !closed[0]) {
+                closed[0] = true;
+                stats.recordRows(rows[0]);
+            }
+            return result;
+        });
+    }
+
+    //executeUpdate/executeLargeUpdate/executeBatch 결과를 행 수로 변환
+    private static long updatedRows(Object result) {
+        if (result instanceof Integer count) {
+            return Math.max(count, 0);
+        }
+        if (result instanceof Long count) {
+            return Math.max(count, 0);
+        }
+        if (result instanceof int[] counts) {
+            long sum = 0;
+            for (int count : counts) {
+                sum += Math.max(count, 0);
+            }
+            return sum;
+        }
+        return 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, T target, Handler<T> handler, Class<?>... extraTypes) {
+        Class<?>[] types = new Class<?>[extraTypes.length + 1];
+        types[0] = type;
+        System.arraycopy(extraTypes, 0, types, 1, extraTypes.length);
+
+        InvocationHandler invocationHandler = (proxy, method, args) -> handler.handle(target, method, args);
+        return (T) Proxy.newProxyInstance(QueryStatsJdbcProxy.class.getClassLoader(), types, invocationHandler);
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    @FunctionalInterface
+    private interface Handler<T> {
+        Object handle(T target, Method method, Object[] args) throws Throwable;
+    }
+}
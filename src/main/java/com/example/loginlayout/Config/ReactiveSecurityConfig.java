@@ -0,0 +1,151 @@
+package com.example.loginlayout.Config;
+
+import com.example.loginlayout.Constant.RoleType;
+import com.example.loginlayout.Service.CustomReactiveUserDetailsService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.security.authentication.ReactiveAuthenticationManager;
+import org.springframework.security.authentication.UserDetailsRepositoryReactiveAuthenticationManager;
+import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity;
+import org.springframework.security.config.web.server.ServerHttpSecurity;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.web.server.SecurityWebFilterChain;
+import org.springframework.security.web.server.authentication.RedirectServerAuthenticationSuccessHandler;
+import org.springframework.security.web.server.authentication.logout.RedirectServerLogoutSuccessHandler;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.net.URI;
+
+/**
+ * ReactiveSecurityConfig
+ *
+ * ▶ 역할
+ * - reactive 프로필(WebFlux)에서 사용하는 Spring Security 설정 클래스
+ * - SecurityConfig와 같은 인증/인가 정책을 non-blocking 필터 체인으로 제공
+ *
+ * ▶ 주요 기능
+ * - 사용자 로그인/로그아웃 처리
+ * - URL별 접근 권한 설정
+ * - 패스워드 인코딩 방식 정의 (BCrypt)
+ * - BCrypt 연산용 크기 제한 스케줄러 정의
+ *
+ * ▶ 처리 흐름
+ * 1. 모든 요청에 대해 인증/인가 정책 적용
+ * 2. formLogin 설정을 통해 로그인 페이지 및 성공 시 리다이렉트 지정
+ * 3. 비밀번호 비교는 passwordScheduler에서 실행
+ * 4. logout 설정으로 로그인 페이지로 리다이렉트
+ *
+ * ▶ 특징
+ * - @Profile("reactive")에서만 활성화
+ * - @EnableWebFluxSecurity, SecurityWebFilterChain 사용
+ */
+@Configuration
+@Profile("reactive")
+@EnableWebFluxSecurity
+public class ReactiveSecurityConfig {
+
+    /**
+     * 패스워드 인코더 Bean (SecurityConfig와 동일)
+     *
+     * @return PasswordEncoder 객체
+     */
+    @Bean
+    public PasswordEncoder passwordEncoder() {
+
+        return new BCryptPasswordEncoder();
+    }
+
+    /**
+     * BCrypt 전용 스케줄러
+     *
+     * ▶ 역할
+     * - 이벤트 루프를 막지 않도록 암호화/비교 연산을 별도 스레드에서 실행
+     *
+     * ▶ 특징
+     * - 스레드 수와 대기열 크기를 제한하여 로그인 폭주 시에도 스레드가 무한정 늘지 않음
+     *
+     * @param threads 최대 스레드 수
+     * @param queueSize 스레드당 최대 대기 작업 수
+     * @return Scheduler 객체
+     */
+    @Bean(destroyMethod = "dispose")
+    public Scheduler passwordScheduler(@Value("${app.reactive.bcrypt-threads:4}") int threads,
+                                       @Value("${app.reactive.bcrypt-queue-size:1000}") int queueSize) {
+        return Schedulers.newBoundedElastic(threads, queueSize, "bcrypt");
+    }
+
+    /**
+     * 로그인 인증 매니저
+     *
+     * @param userDetailsService 회원 조회 서비스
+     * @param passwordEncoder 패스워드 인코더
+     * @param passwordScheduler BCrypt 전용 스케줄러
+     * @return ReactiveAuthenticationManager 객체
+     */
+    @Bean
+    public ReactiveAuthenticationManager reactiveAuthenticationManager(
+            CustomReactiveUserDetailsService userDetailsService,
+            PasswordEncoder passwordEncoder,
+            Scheduler passwordScheduler) {
+        UserDetailsRepositoryReactiveAuthenticationManager manager =
+                new UserDetailsRepositoryReactiveAuthenticationManager(userDetailsService);
+        manager.setPasswordEncoder(passwordEncoder);
+        manager.setScheduler(passwordScheduler);
+        return manager;
+    }
+
+    /**
+     * Spring Security WebFlux 필터 체인 설정
+     *
+     * ▶ 처리 흐름
+     * 1. CSRF 비활성화
+     * 2. 정적 리소스 접근 허용
+     * 3. 회원가입/로그인 페이지 접근 허용
+     * 4. 권한별 URL 접근 규칙 적용 (RoleAuthorizationManager로 상속 반영)
+     * 5. 그 외 요청은 인증 필요
+     * 6. 로그인 페이지 및 성공 처리 설정
+     * 7. 로그아웃 URL 및 성공 후 이동 설정
+     *
+     * @param http ServerHttpSecurity 객체
+     * @param authenticationManager 로그인 인증 매니저
+     * @return SecurityWebFilterChain 객체
+     */
+    @Bean
+    public SecurityWebFilterChain securityWebFilterChain(ServerHttpSecurity http,
+                                                         ReactiveAuthenticationManager authenticationManager) {
+        RedirectServerLogoutSuccessHandler logoutSuccessHandler = new RedirectServerLogoutSuccessHandler();
+        logoutSuccessHandler.setLogoutSuccessUrl(URI.create("/login"));
+
+        http
+                .csrf(csrf -> csrf.disable())//csrf(변조방지)
+                .authorizeExchange(exchange -> exchange //요청권한지정
+                        //자원폴더 및 파일을 접근허용
+                        .pathMatchers("/css/**", "/js/**", "/img/**", "/scss/**", "/vendor/**").permitAll()
+                        //요청 접근 허용
+                        .pathMatchers("/", "/login", "/register").permitAll()
+                        //로드밸런서 상태 확인(liveness/readiness)
+                        .pathMatchers("/actuator/health/**").permitAll()
+                        //권한별 접근(상위 권한은 하위 권한의 URL도 접근가능)
+                        .pathMatchers("/admin/**", "/stats/**").access(RoleAuthorizationManager.atLeastReactive(RoleType.ADMIN))
+                        .pathMatchers("/manager/**").access(RoleAuthorizationManager.atLeastReactive(RoleType.MANAGER))
+                        .pathMatchers("/user/**").access(RoleAuthorizationManager.atLeastReactive(RoleType.USER))
+                        //접근허용을 제외한 모든 요청을 권한(나머지는 로그인사용자만 접근가능)
+                        .anyExchange().authenticated()
+                )
+                .authenticationManager(authenticationManager)
+                .formLogin(form -> form //로그인설정
+                        .loginPage("/login")//사용할 로그인페이지 요청
+                        .authenticationSuccessHandler(new RedirectServerAuthenticationSuccessHandler("/"))
+                )
+                .logout(logout -> logout//로그아웃 설정
+                        .logoutUrl("/logout") //로그아웃 요청
+                        .logoutSuccessHandler(logoutSuccessHandler)//로그아웃 성공후 이동할 요청
+                );
+
+        return http.build();
+    }
+}
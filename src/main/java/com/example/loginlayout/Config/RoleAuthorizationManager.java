@@ -0,0 +1,89 @@
+package com.example.loginlayout.Config;
+
+import com.example.loginlayout.Constant.RoleType;
+import com.example.loginlayout.DTO.SessionMemberAuthentication;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.authorization.ReactiveAuthorizationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+import org.springframework.security.web.server.authorization.AuthorizationContext;
+
+/**
+ * RoleAuthorizationManager
+ *
+ * ▶ 역할
+ * - 권한 상속관계(ADMIN > MANAGER > USER)를 반영한 URL 접근 판단
+ *
+ * ▶ 주요 기능
+ * - atLeast(RoleType)로 "해당 권한 이상" 접근 규칙 생성
+ * - RoleType에 미리 계산된 비트(mask)로 권한 포함 여부 판단
+ *
+ * ▶ 처리 흐름
+ * 1. 로그인 사용자의 권한(회원당 1개)을 RoleType으로 변환
+ * 2. RoleType.includes()로 요구 권한 포함 여부를 비트 연산으로 확인
+ * 3. 결과를 AuthorizationDecision으로 반환
+ *
+ * ▶ 특징
+ * - RoleHierarchy처럼 요청마다 상속 권한 목록을 새로 만들지 않음
+ * - 권한 목록에는 자신의 권한만 있으므로 상속은 이 클래스의 URL 규칙에만 적용되고
+ *   화면의 hasRole()은 자신의 권한만 비교함
+ * - servlet(MVC)은 atLeast(), reactive(WebFlux)는 atLeastReactive() 사용
+ */
+public final class RoleAuthorizationManager {
+
+    private RoleAuthorizationManager() {
+    }
+
+    /**
+     * 요구 권한 이상만 접근 가능한 규칙 생성
+     *
+     * @param required 최소 요구 권한
+     * @return SecurityConfig의 access()에 전달할 AuthorizationManager
+     */
+    public static AuthorizationManager<RequestAuthorizationContext> atLeast(RoleType required) {
+        return (authentication, context) ->
+                new AuthorizationDecision(isGranted(authentication.get(), required));
+    }
+
+    /**
+     * 요구 권한 이상만 접근 가능한 규칙 생성 (WebFlux용)
+     *
+     * @param required 최소 요구 권한
+     * @return ReactiveSecurityConfig의 access()에 전달할 ReactiveAuthorizationManager
+     */
+    public static ReactiveAuthorizationManager<AuthorizationContext> atLeastReactive(RoleType required) {
+        return (authentication, context) -> authentication
+                .map(auth -> isGranted(auth, required))
+                .defaultIfEmpty(false)
+                .map(AuthorizationDecision::new);
+    }
+
+    /**
+     * 인증 정보가 요구 권한을 포함하는지 확인
+     *
+     * @param authentication 현재 인증 정보
+     * @param required 최소 요구 권한
+     * @return 접근 가능 여부
+     */
+    public static boolean isGranted(Authentication authentication, RoleType required) {
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return false;
+        }
+        //세션에서 복원한 인증 정보는 권한 목록 조회 없이 바로 비교
+        if (authentication instanceof SessionMemberAuthentication sessionAuthentication) {
+            return sessionAuthentication.getMember().getRole().includes(required);
+        }
+        //로그인 직후 등 그 밖의 인증 정보 (회원당 권한은 1개이므로 보통 1번 비교로 끝남)
+        for (GrantedAuthority granted : authentication.getAuthorities()) {
+            RoleType role = RoleType.fromAuthority(granted.getAuthority());
+            if (role != null && role.includes(required)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -1,8 +1,10 @@
 package com.example.loginlayout.Config;
 
+import com.example.loginlayout.Constant.RoleType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
@@ -18,7 +20,7 @@ import org.springframework.security.web.SecurityFilterChain;
  *
  * ▶ 주요 기능
  * - 사용자 로그인/로그아웃 처리
- * - URL별 접근 권한 설정
+ * - URL별 접근 권한 설정 (권한 상속관계 ADMIN > MANAGER > USER 반영)
  * - 패스워드 인코딩 방식 정의 (BCrypt)
  * - 정적 리소스 및 회원가입/로그인 페이지 접근 허용
  *
@@ -28,15 +30,19 @@ import org.springframework.security.web.SecurityFilterChain;
  * 3. logout 설정으로 세션 무효화 및 쿠키 삭제 처리
  *
  * ▶ 특징
+ * - servlet(MVC) 스택 전용, reactive 프로필에서는 비활성화
  * - @Configuration, @EnableWebSecurity 적용
  * - Java Config 방식으로 SecurityFilterChain 사용
  * - CustomSuccessHandler와 연동
+ * - 세션에는 CompactSecurityContextRepository로 SessionMember만 저장
  */
 @Configuration
+@Profile("!reactive")
 @EnableWebSecurity
 @RequiredArgsConstructor
 public class SecurityConfig {
     private final CustomSuccessHandler customSuccessHandler;
+    private final CompactSecurityContextRepository compactSecurityContextRepository;
 
     /**
      * 패스워드 인코더 Bean
@@ -66,9 +72,11 @@ public class SecurityConfig {
      * 1. CSRF 비활성화
      * 2. 정적 리소스 접근 허용
      * 3. 회원가입/로그인 페이지 접근 허용
-     * 4. 그 외 요청은 인증 필요
-     * 5. 로그인 페이지 및 성공 처리 설정
-     * 6. 로그아웃 URL, 세션 무효화, 쿠키 삭제 설정
+     * 4. 권한별 URL 접근 규칙 적용 (RoleAuthorizationManager)
+     * 5. 그 외 요청은 인증 필요
+     * 6. 인증 정보 저장소를 CompactSecurityContextRepository로 지정
+     * 7. 로그인 페이지 및 성공 처리 설정
+     * 8. 로그아웃 URL, 세션 무효화, 쿠키 삭제 설정
      *
      * @param http HttpSecurity 객체
      * @return SecurityFilterChain 객체
@@ -83,10 +91,17 @@ public class SecurityConfig {
                         .requestMatchers("/css/**", "/js/**", "/img/**","/scss/**", "/vendor/**").permitAll()
                         //요청 접근 허용
                         .requestMatchers("/", "/login", "/register").permitAll()
+                        //로드밸런서 상태 확인(liveness/readiness)
+                        .requestMatchers("/actuator/health/**").permitAll()
+                        //권한별 접근(상위 권한은 하위 권한의 URL도 접근가능)
+                        .requestMatchers("/admin/**", "/stats/**").access(RoleAuthorizationManager.atLeast(RoleType.ADMIN))
+                        .requestMatchers("/manager/**").access(RoleAuthorizationManager.atLeast(RoleType.MANAGER))
+                        .requestMatchers("/user/**").access(RoleAuthorizationManager.atLeast(RoleType.USER))
                         //접근허용을 제외한 모든 요청을 권한(나머지는 로그인사용자만 접근가능)
                         .anyRequest().authenticated()
-                        //.requestMatchers().hasRole("USER") 특정권한만 접근가능
-                        //.requestMatchers().hasAnyRole("ADMIN", "MANAGER") 특정권한들만 접근가능
+                )
+                .securityContext(context->context //인증정보 저장방식(세션에 SessionMember만 저장)
+                        .securityContextRepository(compactSecurityContextRepository)
                 )
                 .formLogin(form->form //로그인설정
                         .loginPage("/login")//사용할 로그인페이지 요청
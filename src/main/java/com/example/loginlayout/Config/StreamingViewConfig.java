@@ -0,0 +1,45 @@
+package com.example.loginlayout.Config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.ModelAndView;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * StreamingViewConfig
+ *
+ * ▶ 역할
+ * - 컨트롤러가 반환한 화면 이름을 요청 속성에 저장
+ * - StreamingViewFilter가 화면별로 렌더링 시간을 기록할 수 있게 함
+ *
+ * ▶ 처리 흐름
+ * 1. 컨트롤러 실행 후(postHandle) ModelAndView의 화면 이름 확인
+ * 2. redirect가 아닌 화면이면 StreamingViewFilter.VIEW_NAME_ATTRIBUTE로 저장
+ *
+ * ▶ 특징
+ * - WebMvcConfigurer로 HandlerInterceptor 등록
+ * - servlet(MVC) 스택 전용, reactive 프로필에서는 비활성화
+ */
+@Configuration
+@Profile("!reactive")
+public class StreamingViewConfig implements WebMvcConfigurer {
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new HandlerInterceptor() {
+            @Override
+            public void postHandle(HttpServletRequest request, HttpServletResponse response,
+                                   Object handler, ModelAndView modelAndView) {
+                if (modelAndView == null || modelAndView.getViewName() == null
+                        || modelAndView.getViewName().startsWith("redirect:")) {
+                    return;
+                }
+                request.setAttribute(StreamingViewFilter.VIEW_NAME_ATTRIBUTE, modelAndView.getViewName());
+            }
+        });
+    }
+}
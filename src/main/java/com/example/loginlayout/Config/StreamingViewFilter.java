@@ -0,0 +1,189 @@
+package com.example.loginlayout.Config;
+
+import com.example.loginlayout.Service.ViewStatsService;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+
+/**
+ * StreamingViewFilter
+ *
+ * ▶ 역할
+ * - Thymeleaf 화면을 스트리밍(early flush) 방식으로 전송
+ * - 화면별 첫 바이트 시간(TTFB)과 전체 렌더링 시간 측정
+ *
+ * ▶ 처리 흐름
+ * 1. GET 요청의 응답 Writer를 감쌈
+ * 2. Thymeleaf가 layout의 "</head>"까지 출력하면 즉시 flush
+ *    → 브라우저가 sb-admin-2.css, 폰트 등을 먼저 받기 시작 (chunked 전송)
+ * 3. 이후 본문(사이드바, 상단바, 본문 fragment)은 렌더링되는 대로 이어서 전송
+ * 4. 요청 종료 시 StreamingViewConfig가 저장한 화면 이름으로 시간 기록
+ *
+ * ▶ 특징
+ * - Thymeleaf의 produce-partial-output-while-processing=true 와 함께 사용
+ * - Spring Security 필터 뒤(기본 순서)에서 실행되어 보안 헤더가 flush 전에 기록됨
+ * - 측정 시간은 이 필터 진입 시점 기준 (컨트롤러 + 렌더링)
+ * - app.view.streaming-enabled=false 이면 flush 없이 시간만 측정
+ * - 워밍업 요청(WarmupRunner)은 스트리밍은 하되 시간은 기록하지 않음
+ * - 주의: flush 이후 본문 렌더링 중 예외가 나면 이미 200 응답이 나간 상태라 오류 화면을 보낼 수 없음
+ *   → 오류 로그를 남기고 예외를 다시 던져 컨테이너가 연결을 끊게 함 (잘린 화면, 통계 기록 안 함)
+ *   → 오류 화면이 꼭 필요하면 app.view.streaming-enabled=false (전체 버퍼링)
+ * - servlet(MVC) 스택 전용, reactive 프로필에서는 비활성화
+ */
+@Slf4j
+@Component
+@Profile("!reactive")
+public class StreamingViewFilter extends OncePerRequestFilter {
+    //StreamingViewConfig 인터셉터가 렌더링할 화면 이름을 저장하는 요청 속성명
+    public static final String VIEW_NAME_ATTRIBUTE = StreamingViewFilter.class.getName() + ".viewName";
+
+    private final ViewStatsService viewStatsService;
+    private final boolean streamingEnabled;
+
+    public StreamingViewFilter(ViewStatsService viewStatsService,
+                               @Value("${app.view.streaming-enabled:true}") boolean streamingEnabled) {
+        this.viewStatsService = viewStatsService;
+        this.streamingEnabled = streamingEnabled;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        return !"GET".equals(request.getMethod())
+                || uri.startsWith("/css/") || uri.startsWith("/js/") || uri.startsWith("/img/")
+                || uri.startsWith("/scss/") || uri.startsWith("/vendor/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        long start = System.nanoTime();
+        StreamingResponse streamingResponse = new StreamingResponse(response, streamingEnabled);
+        boolean failed = true;
+        try {
+            filterChain.doFilter(request, streamingResponse);
+            failed = false;
+        } catch (IOException | ServletException | RuntimeException e) {
+            if (streamingResponse.flushedAt > 0) {
+                //200 응답과 head가 이미 전송됨 → 오류 화면으로 바꿀 수 없음
+                //예외를 그대로 던지면 Tomcat이 응답을 마무리하지 않고 연결을 끊어(CLOSE_NOW)
+                //브라우저/프록시가 잘린 응답임을 알 수 있음
+                log.error("early flush 이후 렌더링 오류, 연결 종료 {} {}", request.getMethod(), request.getRequestURI(), e);
+            }
+            throw e;
+        } finally {
+            long total = System.nanoTime() - start;
+            Object viewName = request.getAttribute(VIEW_NAME_ATTRIBUTE);
+            if (viewName != null && !failed && !WarmupRunner.isWarmupRequest(request)) {
+                long firstByte = streamingResponse.flushedAt > 0 ? streamingResponse.flushedAt - start : total;
+                viewStatsService.record(viewName.toString(), firstByte, total);
+            }
+        }
+    }
+
+    //"</head>" 출력 직후 flush하는 응답 래퍼
+    private static final class StreamingResponse extends HttpServletResponseWrapper {
+        private final boolean flushEarly;
+        private PrintWriter writer;
+        private long flushedAt;
+
+        private StreamingResponse(HttpServletResponse response, boolean flushEarly) {
+            super(response);
+            this.flushEarly = flushEarly;
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            if (writer == null) {
+                writer = new PrintWriter(new HeadFlushingWriter(super.getWriter(), flushEarly,
+                        () -> flushedAt = System.nanoTime()));
+            }
+            return writer;
+        }
+    }
+
+    //출력 문자열에서 "</head>"를 찾아 1번만 flush (여러 번 나눠 쓴 경우, 대소문자 무관)
+    static final class HeadFlushingWriter extends Writer {
+        private static final String HEAD_END = "</head>";
+
+        private final Writer delegate;
+        private final boolean flushEarly;
+        private final Runnable onFlush;   //flush 직후 실행 (첫 바이트 시간 기록)
+        private int matched;               //"</head>" 중 일치한 글자 수
+        private boolean flushed;
+
+        HeadFlushingWriter(Writer delegate, boolean flushEarly, Runnable onFlush) {
+            this.delegate = delegate;
+            this.flushEarly = flushEarly;
+            this.onFlush = onFlush;
+        }
+
+        @Override
+        public void write(char[] buffer, int off, int len) throws IOException {
+            delegate.write(buffer, off, len);
+            if (!flushed && flushEarly) {
+                for (int i = off; i < off + len && matched < HEAD_END.length(); i++) {
+                    scan(buffer[i]);
+                }
+                flushIfHeadEnded();
+            }
+        }
+
+        @Override
+        public void write(String text, int off, int len) throws IOException {
+            delegate.write(text, off, len);
+            if (!flushed && flushEarly) {
+                for (int i = off; i < off + len && matched < HEAD_END.length(); i++) {
+                    scan(text.charAt(i));
+                }
+                flushIfHeadEnded();
+            }
+        }
+
+        @Override
+        public void write(int c) throws IOException {
+            delegate.write(c);
+            if (!flushed && flushEarly) {
+                scan((char) c);
+                flushIfHeadEnded();
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            delegate.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+
+        private void scan(char c) {
+            if (Character.toLowerCase(c) == HEAD_END.charAt(matched)) {
+                matched++;
+            } else {
+                matched = c == '<' ? 1 : 0;
+            }
+        }
+
+        private void flushIfHeadEnded() throws IOException {
+            if (matched == HEAD_END.length()) {
+                flushed = true;
+                delegate.flush();
+                onFlush.run();
+            }
+        }
+    }
+}
@@ -0,0 +1,223 @@
+package com.example.loginlayout.Config;
+
+import com.example.loginlayout.Constant.RoleType;
+import com.example.loginlayout.DTO.MemberDTO;
+import com.example.loginlayout.Entity.MemberEntity;
+import com.example.loginlayout.Service.CustomUserDetailsService;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.modelmapper.ModelMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.env.Environment;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * WarmupRunner
+ *
+ * ▶ 역할
+ * - 배포 직후 첫 로그인들이 느린 문제를 줄이기 위한 워밍업 실행기
+ * - 애플리케이션이 준비(Readiness: ACCEPTING_TRAFFIC) 상태가 되기 전에 실행
+ *
+ * ▶ 주요 기능
+ * 1. CustomUserDetailsService.loadUserByUsername (findByUsername 쿼리 계획)
+ * 2. PasswordEncoder.encode/matches (BCrypt)
+ * 3. MemberService가 사용하는 ModelMapper 매핑 (DTO ↔ Entity)
+ * 4. "/", "/login", "/register" 요청 (보안 필터 체인, 컨트롤러, Thymeleaf 렌더링)
+ * 5. 단계별 소요시간 로그 출력
+ *
+ * ▶ 처리 흐름
+ * 1. Spring Boot가 웹 서버 시작 후 ApplicationRunner 실행
+ * 2. 반복 횟수(iterations) 또는 제한 시간(max-duration-ms) 중 먼저 도달할 때까지 반복
+ * 3. 워밍업이 끝나야 Readiness 상태가 ACCEPTING_TRAFFIC으로 바뀜
+ *    → /actuator/health/readiness 가 503(OUT_OF_SERVICE)에서 200(UP)으로 바뀜
+ *
+ * ▶ 특징
+ * - 웹 서버(Tomcat)는 워밍업 중에도 요청을 받음
+ *   → 로드밸런서가 /actuator/health/readiness 를 확인해야 실제 트래픽이 워밍업 뒤로 미뤄짐
+ *   → readiness를 확인하지 않는 환경에서는 최선의 노력(best-effort) 워밍업
+ * - 실제 데이터는 읽거나 쓰지 않음
+ *   (아이디 컬럼 길이(50)보다 긴 가상 아이디로 조회하므로 항상 결과 없음)
+ * - 웹 서버 포트가 없는 환경(테스트 등)에서는 페이지 요청 단계 생략
+ * - 페이지 요청에는 X-Warmup 헤더(실행마다 새로 만든 토큰)를 붙여
+ *   QueryStatsFilter, StreamingViewFilter가 통계에 기록하지 않음
+ * - app.warmup.enabled=false로 끌 수 있음
+ * - servlet(MVC) 스택 전용, reactive 프로필에서는 비활성화
+ */
+@Slf4j
+@Component
+@Profile("!reactive")
+public class WarmupRunner implements ApplicationRunner {
+
+    //회원 아이디 컬럼(length = 50)보다 길어 실제 회원과 겹치지 않는 가상 아이디
+    private static final String WARMUP_USERNAME = "warmup-" + "x".repeat(50);
+    private static final String WARMUP_PASSWORD = "warmup-password";
+    private static final String[] WARMUP_PAGES = {"/", "/login", "/register"};
+    //워밍업 페이지 요청 표시 헤더 (외부에서 흉내낼 수 없도록 실행마다 새 토큰 사용)
+    public static final String WARMUP_HEADER = "X-Warmup";
+    private static final String WARMUP_TOKEN = UUID.randomUUID().toString();
+
+    private final CustomUserDetailsService customUserDetailsService;
+    private final PasswordEncoder passwordEncoder;
+    private final ModelMapper modelMapper;
+    private final Environment environment;
+
+    private final boolean enabled;
+    private final int iterations;
+    private final long maxDurationMillis;
+
+    public WarmupRunner(CustomUserDetailsService customUserDetailsService,
+                        PasswordEncoder passwordEncoder,
+                        ModelMapper modelMapper,
+                        Environment environment,
+                        @Value("${app.warmup.enabled:true}") boolean enabled,
+                        @Value("${app.warmup.iterations:20}") int iterations,
+                        @Value("${app.warmup.max-duration-ms:10000}") long maxDurationMillis) {
+        this.customUserDetailsService = customUserDetailsService;
+        this.passwordEncoder = passwordEncoder;
+        this.modelMapper = modelMapper;
+        this.environment = environment;
+        this.enabled = enabled;
+        this.iterations = iterations;
+        this.maxDurationMillis = maxDurationMillis;
+    }
+
+    /**
+     * 워밍업 실행
+     *
+     * @param args 실행 인자 (사용하지 않음)
+     */
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled) {
+            log.info("워밍업 생략(app.warmup.enabled=false)");
+            return;
+        }
+        log.info("워밍업 시작 (최대 {}회, {}ms)", iterations, maxDurationMillis);
+        long start = System.nanoTime();
+        long deadline = start + maxDurationMillis * 1_000_000L;
+
+        String encoded = passwordEncoder.encode(WARMUP_PASSWORD);
+        long[] stepNanos = new long[4]; //조회, BCrypt, 매핑, 페이지
+        int passes = 0;
+
+        try (HttpClient client = createClient()) {
+            while (passes < iterations && System.nanoTime() < deadline) {
+                long stepStart = System.nanoTime();
+                warmUserDetails();
+                stepNanos[0] += System.nanoTime() - stepStart;
+
+                stepStart = System.nanoTime();
+                warmPasswordEncoder(encoded);
+                stepNanos[1] += System.nanoTime() - stepStart;
+
+                stepStart = System.nanoTime();
+                warmMappings();
+                stepNanos[2] += System.nanoTime() - stepStart;
+
+                stepStart = System.nanoTime();
+                warmPages(client, deadline);
+                stepNanos[3] += System.nanoTime() - stepStart;
+
+                passes++;
+            }
+        }
+
+        log.info("워밍업 완료 {}회, 전체 {}ms (조회 {}ms, BCrypt {}ms, 매핑 {}ms, 페이지 {}ms)",
+                passes, toMillis(System.nanoTime() - start),
+                toMillis(stepNanos[0]), toMillis(stepNanos[1]), toMillis(stepNanos[2]), toMillis(stepNanos[3]));
+    }
+
+    //로그인 조회 경로(findByUsername 쿼리, 예외 처리)
+    private void warmUserDetails() {
+        try {
+            customUserDetailsService.loadUserByUsername(WARMUP_USERNAME);
+        } catch (UsernameNotFoundException e) {
+            //가상 아이디이므로 항상 발생
+        }
+    }
+
+    //BCrypt 비교(로그인)와 암호화(가입)
+    private void warmPasswordEncoder(String encoded) {
+        passwordEncoder.matches(WARMUP_PASSWORD, encoded);
+        passwordEncoder.encode(WARMUP_PASSWORD);
+    }
+
+    //MemberService의 DTO ↔ Entity 변환
+    private void warmMappings() {
+        MemberDTO memberDTO = MemberDTO.builder()
+                .firstName("warmup")
+                .lastName("warmup")
+                .username(WARMUP_USERNAME)
+                .password(WARMUP_PASSWORD)
+                .build();
+        MemberEntity entity = modelMapper.map(memberDTO, MemberEntity.class);
+        entity.setId(0L);
+        entity.setRole(RoleType.USER);
+        modelMapper.map(entity, MemberDTO.class);
+    }
+
+    //index/login/register 페이지 요청 (보안 필터 체인 + 템플릿 렌더링)
+    private void warmPages(HttpClient client, long deadline) {
+        String port = environment.getProperty("local.server.port");
+        if (client == null || port == null) {
+            return;
+        }
+        for (String page : WARMUP_PAGES) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return;
+            }
+            HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + page))
+                    .timeout(Duration.ofNanos(remaining))
+                    .header(WARMUP_HEADER, WARMUP_TOKEN)
+                    .GET()
+                    .build();
+            try {
+                client.send(request, HttpResponse.BodyHandlers.discarding());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.warn("워밍업 페이지 요청 실패 {} : {}", page, e.getMessage());
+                return;
+            }
+        }
+    }
+
+    /**
+     * 워밍업 페이지 요청인지 확인 (통계 기록 제외용)
+     *
+     * @param request 현재 요청
+     * @return 워밍업 요청 여부
+     */
+    public static boolean isWarmupRequest(HttpServletRequest request) {
+        return WARMUP_TOKEN.equals(request.getHeader(WARMUP_HEADER));
+    }
+
+    //페이지 요청용 HttpClient (웹 서버 포트가 없으면 null, try-with-resources로 종료)
+    private HttpClient createClient() {
+        if (environment.getProperty("local.server.port") == null) {
+            return null;
+        }
+        return HttpClient.newBuilder()
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .connectTimeout(Duration.ofMillis(maxDurationMillis))
+                .build();
+    }
+
+    private static long toMillis(long nanos) {
+        return nanos / 1_000_000L;
+    }
+}
@@ -1,28 +1,78 @@
 package com.example.loginlayout.Constant;
 
-import lombok.AllArgsConstructor;
 import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 /**
  * RoleType
  *
  * ▶ 역할
  * - 애플리케이션 내 사용자 권한(role) 구분을 위한 Enum
+ * - 권한 상속관계(ADMIN > MANAGER > USER)를 미리 계산하여 보관
  *
  * ▶ 주요 기능
  * - 사용자 권한 정의
  *   - USER: 일반 사용자
  *   - MANAGER: 관리자(일부 관리 기능 가능)
  *   - ADMIN: 최고 관리자(모든 권한)
+ * - 권한별 포함 권한 비트(mask) 제공 → includes()로 O(1) 비교
+ * - 권한별 불변 GrantedAuthority 목록 제공 (자신의 권한 1개)
+ *   → 요청마다 복원하는 SessionMemberAuthentication이 복사 없이 반환
  *
  * ▶ 특징
  * - Enum 타입으로 정의되어 고정된 권한 값 사용
- * - Lombok @Getter, @AllArgsConstructor 적용
+ * - 선언 순서가 곧 권한 등급 (뒤에 선언될수록 상위 권한)
+ * - 권한 목록에는 하위 권한을 넣지 않음 → 화면의 hasRole('USER')는 USER 회원만 해당
+ * - Lombok @Getter 적용
  * - MemberEntity와 연동하여 권한 관리
  */
 @Getter
-@AllArgsConstructor
 public enum RoleType {
-    USER, MANAGER, ADMIN
+    USER, MANAGER, ADMIN;
+
+    //"ROLE_권한명" → RoleType 역조회용
+    private static final Map<String, RoleType> BY_AUTHORITY = new HashMap<>();
+
+    private final String authority;     //Spring Security 권한명(ROLE_ 접두사 포함)
+    private final int mask;             //자기 자신과 하위 권한의 비트 집합
+    private final List<GrantedAuthority> authorities; //자기 자신의 권한 1개, 불변
+
+    RoleType() {
+        this.authority = "ROLE_" + name();
+        //선언 순서 이하의 모든 권한을 포함 (ADMIN=111, MANAGER=011, USER=001)
+        this.mask = (1 << (ordinal() + 1)) - 1;
+        this.authorities = List.of(new SimpleGrantedAuthority(authority));
+    }
+
+    static {
+        for (RoleType role : values()) {
+            BY_AUTHORITY.put(role.authority, role);
+        }
+    }
+
+    /**
+     * 현재 권한이 요구 권한을 포함하는지 확인
+     * 예) ADMIN.includes(USER) → true, USER.includes(MANAGER) → false
+     *
+     * @param required 요구 권한
+     * @return 포함 여부
+     */
+    public boolean includes(RoleType required) {
+        return (mask & (1 << required.ordinal())) != 0;
+    }
 
+    /**
+     * 권한명으로 RoleType 조회
+     *
+     * @param authority "ROLE_ADMIN" 형태의 권한명
+     * @return 해당 RoleType 또는 null
+     */
+    public static RoleType fromAuthority(String authority) {
+        return BY_AUTHORITY.get(authority);
+    }
 }
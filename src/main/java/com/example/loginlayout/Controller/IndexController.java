@@ -1,7 +1,9 @@
 package com.example.loginlayout.Controller;
 
 
-import jakarta.servlet.http.HttpSession;
+import com.example.loginlayout.DTO.SessionMember;
+import org.springframework.context.annotation.Profile;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -12,42 +14,43 @@ import lombok.extern.slf4j.Slf4j;
  *
  * ▶ 역할
  * - 애플리케이션의 메인 페이지 요청 처리
- * - 세션 정보를 View에 전달
+ * - 로그인 사용자 정보를 View에 전달
  *
  * ▶ 주요 기능
  * - 메인 페이지(index) 렌더링
- * - 로그인 세션 정보(username) 모델에 전달
+ * - 로그인 사용자 아이디(username) 모델에 전달
  *
  * ▶ 처리 흐름
  * 1. 사용자 요청 수신 ("/")
- * 2. 세션에서 로그인 아이디(loginId) 조회
+ * 2. 인증 정보(SessionMember)에서 로그인 아이디 조회
  * 3. 모델에 로그인 아이디 전달
  * 4. index.html 렌더링
  *
  * ▶ 특징
+ * - servlet(MVC) 스택 전용, reactive 프로필에서는 비활성화
  * - @Controller 사용
  * - 단순 페이지 렌더링용 컨트롤러
- * - 세션 기반 사용자 정보 처리
+ * - 세션에 직접 접근하지 않음 (비로그인 요청에 세션을 만들지 않음)
  */
 @Controller
+@Profile("!reactive")
 @Slf4j
 public class IndexController {
 
     /**
      * 메인 페이지(index) 요청 처리
-     * 1. HttpSession에서 로그인 아이디 가져오기
+     * 1. 인증 정보에서 로그인 아이디 가져오기 (비로그인이면 null)
      * 2. Model에 username 속성으로 전달
      * 3. index.html 뷰 반환
      *
-     * @param session 현재 HTTP 세션
+     * @param member  로그인 회원 정보
      * @param model   View에 전달할 모델 객체
      * @return index 페이지
      */
     @GetMapping
-    public String index(HttpSession session, Model model){
-        log.info("세션에 저장된 사용자아이디를 저장");
-        String loginId = (String)session.getAttribute("loginId");
-        model.addAttribute("username",loginId);
+    public String index(@AuthenticationPrincipal SessionMember member, Model model){
+        log.info("로그인 사용자아이디를 저장");
+        model.addAttribute("username", member != null ? member.getUsername() : null);
 
         log.info("index페이지로 이동");
         return "index";
@@ -1,6 +1,7 @@
 package com.example.loginlayout.Controller;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.GetMapping;
 
@@ -19,11 +20,13 @@ import org.springframework.web.bind.annotation.GetMapping;
  * 2. 로그인 뷰 반환
  *
  * ▶ 특징
+ * - servlet(MVC) 스택 전용, reactive 프로필에서는 비활성화
  * - @Controller 사용
  * - 단순 페이지 렌더링용 컨트롤러
  * - Spring Security 로그인 폼과 연동
  */
 @Controller
+@Profile("!reactive")
 @Slf4j
 public class LoginController {
 
@@ -4,6 +4,7 @@ import com.example.loginlayout.DTO.MemberDTO;
 import com.example.loginlayout.Service.MemberService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -25,11 +26,13 @@ import org.springframework.web.bind.annotation.PostMapping;
  * 3. 저장 후 "/login" 페이지로 리다이렉트
  *
  * ▶ 특징
+ * - servlet(MVC) 스택 전용, reactive 프로필에서는 비활성화
  * - @Controller 사용
  * - Thymeleaf 및 Spring MVC 폼 연동
  * - Service 계층(MemberService)와 연결
  */
 @Controller
+@Profile("!reactive")
 @RequiredArgsConstructor
 @Slf4j
 public class MemberController {
@@ -0,0 +1,48 @@
+package com.example.loginlayout.Controller;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.stereotype.Controller;
+import org.springframework.ui.Model;
+import org.springframework.web.bind.annotation.GetMapping;
+import reactor.core.publisher.Mono;
+
+/**
+ * ReactiveIndexController
+ *
+ * ▶ 역할
+ * - reactive 프로필에서 메인 페이지 요청 처리
+ *
+ * ▶ 처리 흐름
+ * 1. 사용자 요청 수신 ("/")
+ * 2. ReactiveSecurityContextHolder에서 로그인 아이디 조회
+ * 3. 모델에 로그인 아이디 전달
+ * 4. index.html 렌더링
+ *
+ * ▶ 특징
+ * - IndexController와 같은 화면, 세션 대신 SecurityContext 사용
+ */
+@Controller
+@Profile("reactive")
+@Slf4j
+public class ReactiveIndexController {
+
+    /**
+     * 메인 페이지(index) 요청 처리
+     *
+     * @param model View에 전달할 모델 객체
+     * @return index 페이지
+     */
+    @GetMapping
+    public Mono<String> index(Model model) {
+        log.info("로그인 사용자아이디를 저장");
+        return ReactiveSecurityContextHolder.getContext()
+                .map(SecurityContext::getAuthentication)
+                .filter(auth -> auth.isAuthenticated() && !(auth instanceof AnonymousAuthenticationToken))
+                .doOnNext(auth -> model.addAttribute("username", auth.getName()))
+                .thenReturn("index");
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.loginlayout.Controller;
+
+import com.example.loginlayout.DTO.MemberDTO;
+import com.example.loginlayout.Service.ReactiveMemberService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import reactor.core.publisher.Mono;
+
+/**
+ * ReactiveMemberController
+ *
+ * ▶ 역할
+ * - reactive 프로필에서 로그인/회원 가입 화면과 회원 저장 처리
+ *
+ * ▶ 처리 흐름
+ * 1. "/login" GET 요청 시 로그인 페이지 반환
+ * 2. "/register" GET 요청 시 회원 가입 페이지 반환
+ * 3. "/register" POST 요청 시 회원 정보 저장 후 "/login"으로 리다이렉트
+ *
+ * ▶ 특징
+ * - LoginController, MemberController와 같은 URL 제공
+ * - ReactiveMemberService와 연결
+ */
+@Controller
+@Profile("reactive")
+@RequiredArgsConstructor
+@Slf4j
+public class ReactiveMemberController {
+
+    private final ReactiveMemberService reactiveMemberService;
+
+    /**
+     * 로그인 페이지 요청 처리
+     *
+     * @return 로그인 페이지
+     */
+    @GetMapping("/login")
+    public String login() {
+        log.info("로그인 페이지로 이동");
+        return "login";
+    }
+
+    /**
+     * 회원 가입 페이지 요청 처리
+     *
+     * @return 회원 가입 페이지
+     */
+    @GetMapping("/register")
+    public String registerPage() {
+        log.info("회원가입 페이지로 이동");
+        return "register";
+    }
+
+    /**
+     * 회원 등록 처리
+     *
+     * @param memberDTO 회원 정보 DTO
+     * @return 로그인 페이지로 리다이렉트
+     */
+    @PostMapping("/register")
+    public Mono<String> registerPost(MemberDTO memberDTO) {
+        log.info("회원등록 처리");
+        return reactiveMemberService.save(memberDTO)
+                .thenReturn("redirect:/login");
+    }
+}
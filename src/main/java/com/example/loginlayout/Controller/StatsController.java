@@ -0,0 +1,77 @@
+package com.example.loginlayout.Controller;
+
+import com.example.loginlayout.DTO.QueryStatsDTO;
+import com.example.loginlayout.DTO.SessionStatsDTO;
+import com.example.loginlayout.DTO.ViewStatsDTO;
+import com.example.loginlayout.Service.QueryStatsService;
+import com.example.loginlayout.Service.SessionTrackingService;
+import com.example.loginlayout.Service.ViewStatsService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * StatsController
+ *
+ * ▶ 역할
+ * - 운영 통계를 JSON으로 제공하는 컨트롤러
+ *
+ * ▶ 주요 기능
+ * - "/stats/queries" : 요청/서비스 메서드별 SQL 실행 통계
+ * - "/stats/sessions" : 세션 수, 세션당 예상 크기
+ * - "/stats/views" : 화면별 첫 바이트 시간(TTFB), 전체 렌더링 시간
+ *
+ * ▶ 특징
+ * - @RestController 사용
+ * - ADMIN 권한만 접근 가능 (SecurityConfig)
+ * - servlet(MVC) 스택 전용, reactive 프로필에서는 비활성화
+ */
+@RestController
+@RequestMapping("/stats")
+@RequiredArgsConstructor
+@Slf4j
+@Profile("!reactive")
+public class StatsController {
+
+    private final QueryStatsService queryStatsService;
+    private final SessionTrackingService sessionTrackingService;
+    private final ViewStatsService viewStatsService;
+
+    /**
+     * SQL 실행 통계 조회
+     *
+     * @return 이름별 SQL 통계 목록 (SQL 수가 많은 순)
+     */
+    @GetMapping("/queries")
+    public List<QueryStatsDTO> queries() {
+        log.info("SQL 통계 조회");
+        return queryStatsService.getStats();
+    }
+
+    /**
+     * 세션 사용량 통계 조회
+     *
+     * @return 세션 수, 세션당 예상 크기, 제거/저장/복원 횟수
+     */
+    @GetMapping("/sessions")
+    public SessionStatsDTO sessions() {
+        log.info("세션 통계 조회");
+        return sessionTrackingService.getStats();
+    }
+
+    /**
+     * 화면 렌더링 시간 통계 조회
+     *
+     * @return 화면별 첫 바이트 시간, 전체 시간 (평균 전체 시간이 긴 순)
+     */
+    @GetMapping("/views")
+    public List<ViewStatsDTO> views() {
+        log.info("화면 렌더링 통계 조회");
+        return viewStatsService.getStats();
+    }
+}
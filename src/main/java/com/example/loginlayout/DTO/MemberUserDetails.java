@@ -0,0 +1,31 @@
+package com.example.loginlayout.DTO;
+
+import com.example.loginlayout.Entity.MemberEntity;
+import lombok.Getter;
+import org.springframework.security.core.userdetails.User;
+
+import java.io.Serial;
+
+/**
+ * MemberUserDetails
+ *
+ * ▶ 역할
+ * - 로그인 인증 과정에서 사용하는 UserDetails
+ * - 인증 성공 후 세션에 저장할 SessionMember를 함께 보관
+ *
+ * ▶ 특징
+ * - Spring Security User 상속 (username, password, 권한)
+ * - 권한은 RoleType.getAuthorities() 사용 (User 생성자가 정렬 Set으로 복사, 로그인 시 1번만 생성)
+ */
+@Getter
+public class MemberUserDetails extends User {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private final SessionMember member;     //세션 저장용 회원 정보
+
+    public MemberUserDetails(MemberEntity memberEntity) {
+        super(memberEntity.getUsername(), memberEntity.getPassword(), memberEntity.getRole().getAuthorities());
+        this.member = new SessionMember(memberEntity.getId(), memberEntity.getUsername(), memberEntity.getRole());
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.loginlayout.DTO;
+
+import lombok.*;
+
+/**
+ * QueryStatsDTO
+ *
+ * ▶ 역할
+ * - 요청(HTTP) 또는 서비스 메서드 단위로 집계한 SQL 실행 통계 전달 객체
+ *
+ * ▶ 주요 기능
+ * - 호출 횟수, 실행한 SQL 수, 처리한 행 수, JDBC 소요시간 전달
+ * - 쿼리 수 기준(budget)을 넘은 호출 횟수 전달
+ *
+ * ▶ 특징
+ * - QueryStatsService에서 생성하여 /stats/queries 로 반환
+ */
+@Getter @Setter
+@ToString @Builder
+@AllArgsConstructor @NoArgsConstructor
+public class QueryStatsDTO {
+    private String name;            //집계 대상 (예: "POST /register", "MemberService.save")
+    private long invocations;       //호출 횟수
+    private long statements;        //실행한 SQL 수(전체)
+    private long rows;              //조회/변경된 행 수(전체)
+    private double jdbcMillis;      //JDBC 소요시간(ms, 전체)
+    private long maxStatements;     //1회 호출에서 실행한 최대 SQL 수
+    private long overBudget;        //쿼리 수 기준을 넘은 호출 횟수
+
+
+}
@@ -0,0 +1,45 @@
+package com.example.loginlayout.DTO;
+
+import com.example.loginlayout.Constant.RoleType;
+import lombok.*;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.security.Principal;
+
+/**
+ * SessionMember
+ *
+ * ▶ 역할
+ * - 로그인한 회원을 세션에 보관하기 위한 최소 정보 객체
+ * - 세션에는 SecurityContext 전체 대신 이 객체 하나만 저장
+ *
+ * ▶ 주요 기능
+ * - 회원 고유번호(id), 아이디(username), 권한(role) 보관
+ * - getName()으로 아이디 제공 (Authentication.getName()과 연동)
+ *
+ * ▶ 특징
+ * - 불변 객체, 직렬화 가능 (세션 복제/저장 대비)
+ * - 권한 목록은 저장하지 않고 SessionMemberAuthentication이 RoleType.getAuthorities()로 제공
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+@AllArgsConstructor
+public class SessionMember implements Principal, Serializable {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private final Long id;              //회원 고유번호
+    private final String username;      //아이디
+    private final RoleType role;        //권한
+
+    /**
+     * Principal 이름 (로그인 아이디)
+     * @return username
+     */
+    @Override
+    public String getName() {
+        return username;
+    }
+}
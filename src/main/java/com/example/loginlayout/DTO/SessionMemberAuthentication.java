@@ -0,0 +1,62 @@
+package com.example.loginlayout.DTO;
+
+import lombok.Getter;
+import org.springframework.security.authentication.AbstractAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.io.Serial;
+import java.util.List;
+
+/**
+ * SessionMemberAuthentication
+ *
+ * ▶ 역할
+ * - 세션의 SessionMember로 요청마다 복원하는 인증 정보
+ *
+ * ▶ 주요 기능
+ * - getPrincipal() : SessionMember (@AuthenticationPrincipal SessionMember로 주입)
+ * - getAuthorities() : RoleType.getAuthorities() 불변 목록을 복사 없이 그대로 반환
+ *
+ * ▶ 특징
+ * - UsernamePasswordAuthenticationToken은 생성할 때마다 권한 목록을 새 ArrayList로 복사하므로
+ *   요청마다 생성되는 인증 정보는 이 클래스를 사용
+ * - 비밀번호(credentials)는 보관하지 않음
+ */
+@Getter
+public class SessionMemberAuthentication extends AbstractAuthenticationToken {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private final SessionMember member;     //세션에 저장된 회원 정보
+
+    public SessionMemberAuthentication(SessionMember member) {
+        super(null); //부모의 권한 목록은 사용하지 않음 (getAuthorities() 재정의)
+        this.member = member;
+        setAuthenticated(true);
+    }
+
+    @Override
+    public List<GrantedAuthority> getAuthorities() {
+        return member.getRole().getAuthorities();
+    }
+
+    @Override
+    public Object getPrincipal() {
+        return member;
+    }
+
+    @Override
+    public Object getCredentials() {
+        return null;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return obj instanceof SessionMemberAuthentication other && member.equals(other.member);
+    }
+
+    @Override
+    public int hashCode() {
+        return member.hashCode();
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.loginlayout.DTO;
+
+import lombok.*;
+
+/**
+ * SessionStatsDTO
+ *
+ * ▶ 역할
+ * - 세션 사용량 통계 전달 객체
+ *
+ * ▶ 주요 기능
+ * - 현재 세션 수, 세션당 속성 직렬화 크기, 제거/저장/복원 횟수 전달
+ *
+ * ▶ 특징
+ * - SessionTrackingService에서 생성하여 /stats/sessions 로 반환
+ * - 속성 크기는 일부 세션(sampledSessions)의 속성(loginMember, SPRING_SECURITY_SAVED_REQUEST 등)을 직렬화해 추정
+ * - 컨테이너의 세션 객체, 세션 아이디 문자열, 속성 Map 자체의 메모리는 포함하지 않음 (실제 heap 사용량보다 작음)
+ */
+@Getter @Setter
+@ToString @Builder
+@AllArgsConstructor @NoArgsConstructor
+public class SessionStatsDTO {
+    private int liveSessions;           //현재 세션 수
+    private int maxSessions;            //최대 세션 수 설정값
+    private int sampledSessions;        //크기 추정에 사용한 세션 수
+    private long avgAttributeBytes;             //세션당 속성 직렬화 크기(byte)
+    private long estimatedTotalAttributeBytes;  //전체 세션 속성 직렬화 크기(byte)
+    private long evictedSessions;       //최대 세션 수 초과로 제거된 세션 수
+    private long spilledSessions;       //제거시 H2에 저장한 세션 수
+    private long restoredSessions;      //H2에서 복원한 세션 수
+
+
+}
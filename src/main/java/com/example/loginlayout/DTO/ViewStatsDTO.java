@@ -0,0 +1,29 @@
+package com.example.loginlayout.DTO;
+
+import lombok.*;
+
+/**
+ * ViewStatsDTO
+ *
+ * ▶ 역할
+ * - 화면(Thymeleaf View)별 렌더링 시간 통계 전달 객체
+ *
+ * ▶ 주요 기능
+ * - 렌더링 횟수, 첫 바이트 시간(TTFB), 전체 시간의 평균/최대값 전달
+ *
+ * ▶ 특징
+ * - ViewStatsService에서 생성하여 /stats/views 로 반환
+ */
+@Getter @Setter
+@ToString @Builder
+@AllArgsConstructor @NoArgsConstructor
+public class ViewStatsDTO {
+    private String view;                //화면 이름 (예: "index")
+    private long renders;               //렌더링 횟수
+    private double avgFirstByteMillis;  //평균 첫 바이트 시간(ms)
+    private double maxFirstByteMillis;  //최대 첫 바이트 시간(ms)
+    private double avgTotalMillis;      //평균 전체 시간(ms)
+    private double maxTotalMillis;      //최대 전체 시간(ms)
+
+
+}
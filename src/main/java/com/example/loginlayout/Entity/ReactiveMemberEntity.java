@@ -0,0 +1,36 @@
+package com.example.loginlayout.Entity;
+
+import com.example.loginlayout.Constant.RoleType;
+import lombok.*;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+/**
+ * ReactiveMemberEntity
+ *
+ * ▶ 역할
+ * - reactive 프로필에서 R2DBC로 회원 정보를 읽고 쓰기 위한 엔티티 클래스
+ * - MemberEntity와 같은 'member_table' 테이블과 매핑됨
+ *
+ * ▶ 주요 기능
+ * - 회원 ID, 이름, 계정 정보 및 권한(Role) 관리
+ *
+ * ▶ 특징
+ * - JPA가 아닌 Spring Data R2DBC 매핑(@Table, @Id) 사용
+ * - reactive 프로필에서는 JPA가 꺼지므로 schema-reactive.sql로 테이블 생성 (컬럼 구조는 MemberEntity와 동일)
+ * - 필드명은 first_name 처럼 snake_case 컬럼으로 매핑됨
+ */
+@Table("member_table")
+@Getter @Setter
+@ToString @Builder
+@AllArgsConstructor @NoArgsConstructor
+public class ReactiveMemberEntity {
+    @Id
+    private Long id;
+    private String firstName;   //이름
+    private String lastName;    //성
+    private String username;    //아이디
+    private String password;    //비밀번호
+    private RoleType role;      //권한
+
+}
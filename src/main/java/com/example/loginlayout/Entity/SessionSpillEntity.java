@@ -0,0 +1,40 @@
+package com.example.loginlayout.Entity;
+
+import com.example.loginlayout.Constant.RoleType;
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * SessionSpillEntity
+ *
+ * ▶ 역할
+ * - 최대 세션 수 초과로 메모리에서 제거된 로그인 세션을 H2에 보관하는 엔티티
+ * - JPA를 통해 'sessionSpillTable' 테이블과 매핑됨
+ *
+ * ▶ 주요 기능
+ * - 제거 당시 세션 아이디, 회원 정보(SessionMember), 만료 시각 관리
+ *
+ * ▶ 특징
+ * - app.session.spill-enabled=true 일 때만 사용
+ * - 같은 세션 아이디로 다시 요청하면 새 세션으로 복원 후 삭제
+ */
+@Entity
+@Table(name="sessionSpillTable")
+@Getter @Setter
+@ToString @Builder
+@AllArgsConstructor @NoArgsConstructor
+public class SessionSpillEntity {
+    @Id
+    @Column(length = 100)
+    private String sessionId;   //제거된 세션 아이디
+    @Column(nullable = false)
+    private Long memberId;      //회원 고유번호
+    @Column(length = 50, nullable = false)
+    private String username;    //아이디
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20, nullable = false)
+    private RoleType role;      //권한
+    @Column(nullable = false)
+    private Long expiresAt;     //만료 시각(epoch ms)
+
+}
@@ -1,6 +1,7 @@
 package com.example.loginlayout.Repository;
 
 import com.example.loginlayout.Entity.MemberEntity;
+import org.springframework.context.annotation.Profile;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -22,8 +23,10 @@ import java.util.Optional;
  * - SQL 작성 없이 JPA 메서드 사용
  * - Service 계층에서 호출되어 비즈니스 로직과 분리
  * - Optional을 반환하여 null 처리 안전
+ * - JPA 전용, reactive 프로필은 ReactiveMemberRepository 사용
  */
 @Repository
+@Profile("!reactive")
 public interface MemberRepository extends JpaRepository<MemberEntity, Long> {
     //로그인 조회에 필요한 아이디조회
     Optional<MemberEntity> findByUsername(String username);
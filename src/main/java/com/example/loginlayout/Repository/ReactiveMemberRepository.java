@@ -0,0 +1,34 @@
+package com.example.loginlayout.Repository;
+
+import com.example.loginlayout.Entity.ReactiveMemberEntity;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+/**
+ * ReactiveMemberRepository
+ *
+ * ▶ 역할
+ * - ReactiveMemberEntity에 대한 non-blocking 데이터 접근 계층
+ * - reactive 프로필에서 MemberRepository를 대신함
+ *
+ * ▶ 주요 기능
+ * - 기본 CRUD 제공 (R2dbcRepository 상속)
+ * - 사용자 이름(username)으로 회원 조회 기능 제공
+ *
+ * ▶ 특징
+ * - R2DBC H2 드라이버 사용, 요청 스레드를 점유하지 않음
+ * - 결과가 없으면 빈 Mono 반환
+ * - reactive 프로필 전용 (기본 프로필에서는 R2DBC 자동설정을 제외)
+ */
+@Repository
+@Profile("reactive")
+public interface ReactiveMemberRepository extends R2dbcRepository<ReactiveMemberEntity, Long> {
+    //로그인 조회에 필요한 아이디조회
+    Mono<ReactiveMemberEntity> findByUsername(String username);
+
+    //가입시 아이디 중복 확인
+    Mono<Boolean> existsByUsername(String username);
+
+}
@@ -0,0 +1,27 @@
+package com.example.loginlayout.Repository;
+
+import com.example.loginlayout.Entity.SessionSpillEntity;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * SessionSpillRepository
+ *
+ * ▶ 역할
+ * - SessionSpillEntity에 대한 데이터 접근 계층
+ *
+ * ▶ 주요 기능
+ * - 기본 CRUD 제공 (JpaRepository 상속)
+ * - 만료된 저장 세션 조회
+ * - JPA 전용, reactive 프로필에서는 비활성화
+ */
+@Repository
+@Profile("!reactive")
+public interface SessionSpillRepository extends JpaRepository<SessionSpillEntity, String> {
+    //만료 시각이 지난 저장 세션 조회
+    List<SessionSpillEntity> findByExpiresAtLessThan(Long now);
+
+}
@@ -0,0 +1,52 @@
+package com.example.loginlayout.Service;
+
+import com.example.loginlayout.Repository.ReactiveMemberRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.security.core.userdetails.ReactiveUserDetailsService;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+/**
+ * CustomReactiveUserDetailsService
+ *
+ * ▶ 역할
+ * - reactive 프로필에서 사용하는 인증(Authentication) 처리용 서비스
+ * - ReactiveMemberRepository에서 사용자 정보를 조회하여 UserDetails 생성
+ *
+ * ▶ 주요 기능
+ * - username을 기준으로 사용자 조회
+ * - 조회된 사용자 정보를 UserDetails로 변환
+ * - 사용자 없을 시 빈 Mono 반환 (인증 매니저가 로그인 실패 처리)
+ *
+ * ▶ 특징
+ * - ReactiveUserDetailsService 인터페이스 구현
+ * - CustomUserDetailsService와 같은 권한 목록(RoleType.getAuthorities()) 사용
+ */
+@Slf4j
+@Service
+@Profile("reactive")
+@RequiredArgsConstructor
+public class CustomReactiveUserDetailsService implements ReactiveUserDetailsService {
+    //로그인과 관련된 테이블의 repository 지정
+    private final ReactiveMemberRepository reactiveMemberRepository;
+
+    /**
+     * username 기반 사용자 조회 및 UserDetails 반환
+     *
+     * @param username 로그인 시 입력한 사용자 이름
+     * @return UserDetails를 담은 Mono (없으면 빈 Mono)
+     */
+    @Override
+    public Mono<UserDetails> findByUsername(String username) {
+        log.info("로그인 정보 읽기(reactive)");
+        return reactiveMemberRepository.findByUsername(username)
+                .map(member -> User.withUsername(member.getUsername())
+                        .password(member.getPassword())
+                        .authorities(member.getRole().getAuthorities())
+                        .build());
+    }
+}
@@ -1,10 +1,11 @@
 package com.example.loginlayout.Service;
 
+import com.example.loginlayout.DTO.MemberUserDetails;
 import com.example.loginlayout.Entity.MemberEntity;
 import com.example.loginlayout.Repository.MemberRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.core.userdetails.User;
+import org.springframework.context.annotation.Profile;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -29,10 +30,14 @@ import java.util.Optional;
  * - UserDetailsService 인터페이스 구현
  * - Spring Security 로그인 과정에서 자동 호출
  * - 권한(Role) 정보를 UserDetails에 포함
+ * - 권한 목록은 RoleType.getAuthorities() 사용 (로그인 시 User가 1번 복사,
+ *   이후 요청의 인증 정보는 SessionMemberAuthentication이 복사 없이 사용)
+ * - JPA(servlet) 스택 전용, reactive 프로필은 CustomReactiveUserDetailsService 사용
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
+@Profile("!reactive")
 public class CustomUserDetailsService implements UserDetailsService {
     //로그인과 관련된 테이블의 repository 지정
     private final MemberRepository memberRepository;
@@ -43,8 +48,10 @@ public class CustomUserDetailsService implements UserDetailsService {
      *
      * 처리 단계:
      * 1. memberRepository에서 username으로 MemberEntity 조회
-     * 2. 존재하면 Spring Security의 User 객체로 변환
+     * 2. 존재하면 MemberUserDetails(Spring Security User 상속)로 변환
      *    - username, 암호화된 password, 권한(Role) 포함
+     *    - 권한은 RoleType에 미리 만들어둔 불변 목록(자신의 권한 1개) 사용
+     *    - 세션 저장용 SessionMember(id, username, role) 포함
      * 3. 존재하지 않으면 UsernameNotFoundException 예외 발생
      *
      * @param username 로그인 시 입력한 사용자 이름
@@ -60,10 +67,7 @@ public class CustomUserDetailsService implements UserDetailsService {
 
         if(memberEntity.isPresent()){//아이디가 존재하면
             log.info("회원의 정보를 전달");
-            return User.withUsername(memberEntity.get().getUsername())
-                .password(memberEntity.get().getPassword())
-                .roles(memberEntity.get().getRole().name())
-                .build();
+            return new MemberUserDetails(memberEntity.get());
         }else {
             throw new UsernameNotFoundException("존재하지 않는 id입니다.");
         }
@@ -7,6 +7,7 @@ import com.example.loginlayout.Repository.MemberRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.modelmapper.ModelMapper;
+import org.springframework.context.annotation.Profile;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
@@ -28,10 +29,12 @@ import java.util.stream.Collectors;
  * - 회원 삭제
  * - 비밀번호 암호화 처리
  * - 회원 권한(Role) 자동 부여
+ * - JPA(servlet) 스택 전용, reactive 프로필은 ReactiveMemberService 사용
  */
 @Service
 @RequiredArgsConstructor
 @Slf4j
+@Profile("!reactive")
 public class MemberService {
     private final MemberRepository memberRepository;
     private final ModelMapper modelMapper;
@@ -0,0 +1,225 @@
+package com.example.loginlayout.Service;
+
+import com.example.loginlayout.DTO.QueryStatsDTO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.StringJoiner;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * QueryStatsService
+ *
+ * ▶ 역할
+ * - SQL 실행 통계를 HTTP 요청 / MemberService 메서드 단위로 수집·집계
+ * - hibernate.show_sql 대신 필요한 정보만 로그로 남김
+ *
+ * ▶ 주요 기능
+ * - begin()/end()로 집계 범위(scope) 시작/종료 (현재 스레드 기준, 중첩 가능)
+ * - recordStatement()로 SQL 실행 1건 기록 (실행 시간, 행 수)
+ * - 범위의 SQL 수가 기준(statement-budget)을 넘으면 경고 로그
+ * - 느린 SQL(slow-query-ms 이상)은 바인딩 값 지문(fingerprint)과 함께 경고 로그
+ * - getStats()로 범위 이름별 누적 통계 제공
+ * - 이름 수가 max-names를 넘으면 새 이름은 "other"로 합산 (누적 통계 크기 제한)
+ *
+ * ▶ 처리 흐름
+ * 1. QueryStatsFilter / MemberService 프록시가 begin(이름) 호출
+ * 2. JDBC 프록시(QueryStatsJdbcProxy)가 SQL 실행마다 recordStatement() 호출
+ * 3. end()에서 범위 결과를 이름별 누적 통계에 합산
+ *    (QueryStatsFilter는 end(이름)으로 요청 처리 후 결정된 URL 패턴 이름을 지정)
+ *
+ * ▶ 특징
+ * - 바인딩 값은 원문 대신 "타입#해시"로만 기록 (비밀번호 등 노출 방지)
+ * - 요청 스레드에서는 ThreadLocal만 사용, 누적 통계는 LongAdder로 집계
+ * - JDBC(servlet) 스택 전용, reactive 프로필에서는 비활성화
+ */
+@Slf4j
+@Service
+@Profile("!reactive")
+public class QueryStatsService {
+
+    private final ThreadLocal<Deque<Scope>> scopes = ThreadLocal.withInitial(ArrayDeque::new);
+    private final Map<String, Totals> totals = new ConcurrentHashMap<>();
+
+    //이름 수 제한 초과시 합산할 이름
+    static final String OTHER_NAME = "other";
+
+    private final int statementBudget;
+    private final long slowQueryNanos;
+    private final int maxNames;
+
+    public QueryStatsService(@Value("${app.query-stats.statement-budget:10}") int statementBudget,
+                             @Value("${app.query-stats.slow-query-ms:100}") long slowQueryMillis,
+                             @Value("${app.query-stats.max-names:500}") int maxNames) {
+        this.statementBudget = statementBudget;
+        this.slowQueryNanos = slowQueryMillis * 1_000_000L;
+        this.maxNames = maxNames;
+    }
+
+    /**
+     * 집계 범위 시작
+     * @param name 범위 이름 (예: "GET /", "MemberService.save")
+     */
+    public void begin(String name) {
+        scopes.get().push(new Scope(name));
+    }
+
+    /**
+     * 가장 최근에 시작한 집계 범위 종료 후 누적 통계에 합산
+     */
+    public void end() {
+        end(null);
+    }
+
+    /**
+     * 가장 최근에 시작한 집계 범위를 지정한 이름으로 종료 후 누적 통계에 합산
+     * - 시작 시점에는 이름을 알 수 없는 경우 사용 (예: 요청 처리 후 결정되는 URL 패턴)
+     *
+     * @param name 누적할 이름 (null이면 begin()에서 지정한 이름)
+     */
+    public void end(String name) {
+        Deque<Scope> stack = scopes.get();
+        Scope scope = stack.poll();
+        if (stack.isEmpty()) {
+            scopes.remove();
+        }
+        if (scope == null) {
+            return;
+        }
+
+        String key = name != null ? name : scope.name;
+        boolean overBudget = scope.statements > statementBudget;
+        if (overBudget) {
+            log.warn("쿼리 수 기준 초과 {} : {}회 (기준 {}회), {}행, JDBC {}ms",
+                    key, scope.statements, statementBudget, scope.rows, toMillis(scope.jdbcNanos));
+        }
+        totalsFor(key).add(scope, overBudget);
+    }
+
+    /**
+     * SQL 실행 1건 기록 (현재 스레드의 모든 범위에 반영)
+     *
+     * @param sql 실행한 SQL
+     * @param params 바인딩 값 (인덱스 → 값)
+     * @param nanos 실행 시간
+     * @param rows 변경된 행 수 (조회는 ResultSet을 닫을 때 recordRows로 반영)
+     */
+    public void recordStatement(String sql, Map<Integer, Object> params, long nanos, long rows) {
+        for (Scope scope : scopes.get()) {
+            scope.statements++;
+            scope.rows += rows;
+            scope.jdbcNanos += nanos;
+        }
+        if (nanos >= slowQueryNanos) {
+            log.warn("느린 쿼리 {}ms : {} params={}", toMillis(nanos), sql, fingerprint(params));
+        }
+    }
+
+    /**
+     * 조회 결과 행 수 기록
+     * @param rows ResultSet에서 읽은 행 수
+     */
+    public void recordRows(long rows) {
+        for (Scope scope : scopes.get()) {
+            scope.rows += rows;
+        }
+    }
+
+    /**
+     * 이름별 누적 통계 조회 (SQL 수가 많은 순)
+     * @return 통계 목록
+     */
+    public List<QueryStatsDTO> getStats() {
+        return totals.entrySet().stream()
+                .map(entry -> entry.getValue().toDTO(entry.getKey()))
+                .sorted(Comparator.comparingLong(QueryStatsDTO::getStatements).reversed())
+                .toList();
+    }
+
+    /**
+     * 바인딩 값 지문 생성
+     * - 값 원문 대신 "순번:타입#해시" 형태로 변환
+     *
+     * @param params 바인딩 값
+     * @return 지문 문자열
+     */
+    static String fingerprint(Map<Integer, Object> params) {
+        StringJoiner joiner = new StringJoiner(", ", "[", "]");
+        new TreeMap<>(params).forEach((index, value) -> joiner.add(value == null
+                ? index + ":null"
+                : index + ":" + value.getClass().getSimpleName() + "#" + Integer.toHexString(Objects.hashCode(value))));
+        return joiner.toString();
+    }
+
+    //이름별 누적 통계 조회 (이름 수 제한 초과시 "other")
+    private Totals totalsFor(String key) {
+        Totals found = totals.get(key);
+        if (found != null) {
+            return found;
+        }
+        if (totals.size() >= maxNames) {
+            key = OTHER_NAME;
+        }
+        return totals.computeIfAbsent(key, k -> new Totals());
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    //현재 진행중인 집계 범위 (한 스레드에서만 사용)
+    private static final class Scope {
+        private final String name;
+        private long statements;
+        private long rows;
+        private long jdbcNanos;
+
+        private Scope(String name) {
+            this.name = name;
+        }
+    }
+
+    //이름별 누적 통계
+    private static final class Totals {
+        private final LongAdder invocations = new LongAdder();
+        private final LongAdder statements = new LongAdder();
+        private final LongAdder rows = new LongAdder();
+        private final LongAdder jdbcNanos = new LongAdder();
+        private final LongAdder overBudget = new LongAdder();
+        private final AtomicLong maxStatements = new AtomicLong();
+
+        private void add(Scope scope, boolean exceeded) {
+            invocations.increment();
+            statements.add(scope.statements);
+            rows.add(scope.rows);
+            jdbcNanos.add(scope.jdbcNanos);
+            maxStatements.accumulateAndGet(scope.statements, Math::max);
+            if (exceeded) {
+                overBudget.increment();
+            }
+        }
+
+        private QueryStatsDTO toDTO(String name) {
+            return QueryStatsDTO.builder()
+                    .name(name)
+                    .invocations(invocations.sum())
+                    .statements(statements.sum())
+                    .rows(rows.sum())
+                    .jdbcMillis(toMillis(jdbcNanos.sum()))
+                    .maxStatements(maxStatements.get())
+                    .overBudget(overBudget.sum())
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package com.example.loginlayout.Service;
+
+import com.example.loginlayout.Constant.RoleType;
+import com.example.loginlayout.DTO.MemberDTO;
+import com.example.loginlayout.Entity.ReactiveMemberEntity;
+import com.example.loginlayout.Repository.ReactiveMemberRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.modelmapper.ModelMapper;
+import org.springframework.context.annotation.Profile;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+/**
+ * ReactiveMemberService
+ *
+ * ▶ 역할
+ * - reactive 프로필에서 사용하는 회원 비즈니스 로직
+ * - MemberService와 같은 기능을 Mono/Flux로 제공
+ *
+ * ▶ 주요 기능
+ * - 회원 등록
+ * - 회원 조회 (단건, 전체, username 기준)
+ * - 회원 정보 수정
+ * - 회원 삭제
+ * - 비밀번호 암호화 처리
+ * - 회원 권한(Role) 자동 부여
+ *
+ * ▶ 특징
+ * - BCrypt 암호화는 CPU를 오래 사용하므로 passwordScheduler(크기 제한)에서 실행
+ * - 이벤트 루프 스레드에서는 블로킹 작업을 하지 않음
+ */
+@Service
+@Profile("reactive")
+@RequiredArgsConstructor
+@Slf4j
+public class ReactiveMemberService {
+    private final ReactiveMemberRepository reactiveMemberRepository;
+    private final ModelMapper modelMapper;
+    private final PasswordEncoder passwordEncoder;
+    private final Scheduler passwordScheduler;
+
+    /**
+     * 신규 회원 등록
+     * 1. username 중복 체크
+     * 2. DTO를 Entity로 변환
+     * 3. 비밀번호 암호화 처리 (passwordScheduler)
+     * 4. 회원 권한(Role) 자동 부여
+     * 5. 데이터베이스 저장 후 DTO 반환
+     *
+     * @param memberDTO 회원 등록 정보
+     * @return 저장된 회원 정보 DTO
+     */
+    public Mono<MemberDTO> save(MemberDTO memberDTO) {
+        log.info("서비스(가입)-중복 아이디 검사");
+        return reactiveMemberRepository.existsByUsername(memberDTO.getUsername())
+                .flatMap(exists -> {
+                    if (exists) {
+                        return Mono.<ReactiveMemberEntity>error(
+                                new IllegalArgumentException("이미 존재하는 아이디입니다."));
+                    }
+                    log.info("서비스(가입)-Entity변환");
+                    ReactiveMemberEntity entity = modelMapper.map(memberDTO, ReactiveMemberEntity.class);
+
+                    return Mono.zip(encode(memberDTO.getPassword()), reactiveMemberRepository.count())
+                            .flatMap(tuple -> {
+                                entity.setPassword(tuple.getT1());
+                                entity.setRole(roleFor(tuple.getT2()));
+
+                                log.info("서비스(가입)-데이터베이스에 저장");
+                                return reactiveMemberRepository.save(entity);
+                            });
+                })
+                .map(saved -> modelMapper.map(saved, MemberDTO.class));
+    }
+
+    /**
+     * ID로 회원 단건 조회
+     * @param id 회원 고유번호
+     * @return 회원 정보 DTO 또는 빈 Mono
+     */
+    public Mono<MemberDTO> findById(Long id) {
+        log.info("서비스(개별조회)-조회");
+        return reactiveMemberRepository.findById(id)
+                .map(entity -> modelMapper.map(entity, MemberDTO.class));
+    }
+
+    /**
+     * 전체 회원 조회
+     * @return 회원 목록 DTO
+     */
+    public Flux<MemberDTO> findAll() {
+        log.info("서비스(전체조회)-조회결과 전달");
+        return reactiveMemberRepository.findAll()
+                .map(entity -> modelMapper.map(entity, MemberDTO.class));
+    }
+
+    /**
+     * username으로 회원 조회
+     * @param username 로그인용 사용자 이름
+     * @return 회원 정보 DTO 또는 빈 Mono
+     */
+    public Mono<MemberDTO> findByUsername(String username) {
+        log.info("서비스(아이디조회)-조회");
+        return reactiveMemberRepository.findByUsername(username)
+                .map(entity -> modelMapper.map(entity, MemberDTO.class));
+    }
+
+    /**
+     * 회원 정보 수정
+     * 1. 데이터베이스에 존재하는 회원 조회
+     * 2. 회원이 있으면 비밀번호 암호화 처리 (passwordScheduler)
+     * 3. 필요한 필드만 업데이트
+     * 4. 수정된 Entity를 DB에 저장 후 DTO 반환
+     *
+     * @param id 회원 고유번호
+     * @param memberDTO 수정할 회원 정보
+     * @return 수정된 회원 DTO 또는 빈 Mono
+     */
+    public Mono<MemberDTO> update(Long id, MemberDTO memberDTO) {
+        log.info("서비스(수정)-조회");
+        //회원이 있을 때만 암호화 (없는 id로 passwordScheduler를 사용하지 않음)
+        return reactiveMemberRepository.findById(id)
+                .flatMap(entity -> encode(memberDTO.getPassword())
+                        .flatMap(encoded -> {
+                            entity.setFirstName(memberDTO.getFirstName());
+                            entity.setLastName(memberDTO.getLastName());
+                            entity.setPassword(encoded);
+
+                            log.info("서비스(수정)-수정된 내용을 저장");
+                            return reactiveMemberRepository.save(entity);
+                        }))
+                .map(update -> modelMapper.map(update, MemberDTO.class));
+    }
+
+    /**
+     * 회원 삭제
+     * 1. 회원 존재 여부 확인
+     * 2. 존재하면 삭제
+     *
+     * @param id 회원 고유번호
+     * @return 삭제 성공 여부
+     */
+    public Mono<Boolean> delete(Long id) {
+        log.info("서비스(삭제)-삭제대상조회");
+        return reactiveMemberRepository.existsById(id)
+                .flatMap(exists -> exists
+                        ? reactiveMemberRepository.deleteById(id).thenReturn(true)
+                        : Mono.just(false));
+    }
+
+    /**
+     * 비밀번호 암호화를 passwordScheduler에서 실행
+     * @param rawPassword 입력 비밀번호
+     * @return 암호화된 비밀번호
+     */
+    private Mono<String> encode(String rawPassword) {
+        return Mono.fromCallable(() -> passwordEncoder.encode(rawPassword))
+                .subscribeOn(passwordScheduler);
+    }
+
+    /**
+     * 가입 순서에 따른 권한 부여 (MemberService와 동일한 규칙)
+     * @param count 현재 회원 수
+     * @return 부여할 권한
+     */
+    private RoleType roleFor(long count) {
+        if (count == 0) {
+            return RoleType.ADMIN;
+        } else if (count == 1) {
+            return RoleType.MANAGER;
+        }
+        return RoleType.USER;
+    }
+}
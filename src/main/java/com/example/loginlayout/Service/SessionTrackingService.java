@@ -0,0 +1,363 @@
+package com.example.loginlayout.Service;
+
+import com.example.loginlayout.DTO.SessionMember;
+import com.example.loginlayout.DTO.SessionStatsDTO;
+import com.example.loginlayout.Entity.SessionSpillEntity;
+import com.example.loginlayout.Repository.SessionSpillRepository;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpSession;
+import jakarta.servlet.http.HttpSessionEvent;
+import jakarta.servlet.http.HttpSessionIdListener;
+import jakarta.servlet.http.HttpSessionListener;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * SessionTrackingService
+ *
+ * ▶ 역할
+ * - 서블릿 세션 생성/소멸을 추적하여 세션 수와 메모리 사용량 관리
+ * - 로그인 회원 정보(SessionMember)의 세션 저장/조회 담당
+ *
+ * ▶ 주요 기능
+ * - 최대 세션 수(app.session.max-sessions) 초과 시 가장 오래 사용하지 않은 비로그인 세션부터 제거,
+ *   비로그인 세션이 없을 때만 로그인 세션 제거 (비로그인 요청을 대량으로 보내도 로그인 사용자는 유지)
+ * - app.session.spill-enabled=true 이면 제거되는 로그인 세션을 H2(SessionSpillEntity)에 저장,
+ *   같은 세션 아이디로 다시 요청하면 새 세션으로 복원
+ * - 현재 세션 수, 세션당 속성 직렬화 크기(byte) 통계 제공
+ *
+ * ▶ 처리 흐름
+ * 1. 세션 생성 시 sessionCreated() → 목록에 추가, 최대 세션 수를 넘었을 때만 목록을 훑어 제거
+ * 2. 로그인 시 세션 아이디 변경(세션 고정 공격 방지) → sessionIdChanged()로 새 아이디로 교체
+ * 3. 요청마다 getMember() → 세션 속성만 읽음 (잠금 없음)
+ * 4. 세션 소멸 시 sessionDestroyed() → 목록에서 제거
+ *
+ * ▶ 특징
+ * - HttpSessionListener, HttpSessionIdListener Bean으로 등록되어 서블릿 컨테이너가 자동 호출
+ * - 최근 사용 시각은 컨테이너가 관리하는 HttpSession.getLastAccessedTime() 사용
+ *   → 요청 처리 경로에서는 공유 잠금을 잡지 않음 (ConcurrentHashMap)
+ * - 제거는 최대 세션 수의 5%씩 한꺼번에 처리하여 목록을 훑는 횟수를 줄임
+ * - 세션 크기는 일부 세션의 속성을 직렬화하여 추정 (조회 시에만 계산, 컨테이너 자체 세션 객체 크기는 제외)
+ * - servlet(MVC) 스택 전용, reactive 프로필에서는 비활성화
+ */
+@Slf4j
+@Service
+@Profile("!reactive")
+public class SessionTrackingService implements HttpSessionListener, HttpSessionIdListener {
+    //세션에 저장하는 로그인 회원 정보 속성명
+    public static final String MEMBER_ATTRIBUTE = "loginMember";
+    //세션 크기 추정시 직렬화할 최대 세션 수
+    private static final int SAMPLE_SIZE = 100;
+    //최근 사용 시각이 같을 때 먼저 만든 세션부터 제거
+    private static final Comparator<Candidate> ELDEST_FIRST =
+            Comparator.comparingLong(Candidate::lastAccessed).thenComparingLong(Candidate::sequence);
+
+    private final SessionSpillRepository sessionSpillRepository;
+    private final int maxSessions;
+    private final int evictBatch;
+    private final boolean spillEnabled;
+
+    //세션 아이디 → 추적 정보
+    private final ConcurrentHashMap<String, Tracked> sessions = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+    //초과분 제거는 한 스레드만 실행 (다른 스레드는 기다리지 않고 넘어감)
+    private final ReentrantLock evictLock = new ReentrantLock();
+    private final LongAdder evicted = new LongAdder();
+    private final LongAdder spilled = new LongAdder();
+    private final LongAdder restored = new LongAdder();
+
+    public SessionTrackingService(SessionSpillRepository sessionSpillRepository,
+                                  @Value("${app.session.max-sessions:10000}") int maxSessions,
+                                  @Value("${app.session.spill-enabled:false}") boolean spillEnabled) {
+        this.sessionSpillRepository = sessionSpillRepository;
+        this.maxSessions = maxSessions;
+        this.evictBatch = Math.max(1, maxSessions / 20);
+        this.spillEnabled = spillEnabled;
+    }
+
+    /**
+     * 세션 생성 시 목록에 추가하고 최대 세션 수 초과분 제거
+     * 1. 가장 오래 사용하지 않은 비로그인 세션부터 제거 (방금 만든 세션 제외)
+     * 2. 비로그인 세션이 없으면 가장 오래 사용하지 않은 로그인 세션 제거
+     *
+     * @param event 세션 이벤트
+     */
+    @Override
+    public void sessionCreated(HttpSessionEvent event) {
+        HttpSession session = event.getSession();
+        sessions.put(session.getId(), new Tracked(session, sequence.incrementAndGet()));
+        if (sessions.size() <= maxSessions || !evictLock.tryLock()) {
+            return;
+        }
+        List<HttpSession> victims;
+        try {
+            victims = selectVictims(session);
+        } finally {
+            evictLock.unlock();
+        }
+        victims.forEach(this::evict);
+    }
+
+    /**
+     * 세션 아이디 변경 시(로그인 시 세션 고정 공격 방지) 목록의 아이디 교체
+     * @param event 세션 이벤트
+     * @param oldSessionId 변경 전 세션 아이디
+     */
+    @Override
+    public void sessionIdChanged(HttpSessionEvent event, String oldSessionId) {
+        Tracked tracked = sessions.remove(oldSessionId);
+        if (tracked != null) {
+            sessions.put(event.getSession().getId(), tracked);
+        }
+    }
+
+    /**
+     * 세션 소멸 시 목록에서 제거
+     * @param event 세션 이벤트
+     */
+    @Override
+    public void sessionDestroyed(HttpSessionEvent event) {
+        sessions.remove(event.getSession().getId());
+    }
+
+    /**
+     * 현재 요청의 로그인 회원 정보 조회
+     * 1. 세션이 있으면 회원 정보 조회 (최근 사용 시각은 컨테이너가 갱신)
+     * 2. 세션이 없고 저장(spill)이 켜져 있으면 요청한 세션 아이디로 복원 시도
+     *
+     * @param request 현재 요청
+     * @return 로그인 회원 정보 또는 null
+     */
+    public SessionMember getMember(HttpServletRequest request) {
+        HttpSession session = request.getSession(false);
+        if (session == null) {
+            return spillEnabled ? restore(request) : null;
+        }
+        try {
+            return (SessionMember) session.getAttribute(MEMBER_ATTRIBUTE);
+        } catch (IllegalStateException e) {
+            //다른 스레드에서 이미 무효화된 세션
+            return null;
+        }
+    }
+
+    /**
+     * 로그인 회원 정보를 세션에 저장 (세션이 없으면 생성)
+     * @param request 현재 요청
+     * @param member 로그인 회원 정보
+     */
+    public void setMember(HttpServletRequest request, SessionMember member) {
+        request.getSession(true).setAttribute(MEMBER_ATTRIBUTE, member);
+    }
+
+    /**
+     * 세션에서 로그인 회원 정보 제거 (세션은 유지)
+     * @param request 현재 요청
+     */
+    public void removeMember(HttpServletRequest request) {
+        HttpSession session = request.getSession(false);
+        if (session == null) {
+            return;
+        }
+        try {
+            session.removeAttribute(MEMBER_ATTRIBUTE);
+        } catch (IllegalStateException e) {
+            //다른 스레드에서 이미 무효화된 세션
+        }
+    }
+
+    /**
+     * 세션에 로그인 회원 정보가 있는지 확인
+     * @param request 현재 요청
+     * @return 존재 여부
+     */
+    public boolean hasMember(HttpServletRequest request) {
+        HttpSession session = request.getSession(false);
+        try {
+            return session != null && session.getAttribute(MEMBER_ATTRIBUTE) != null;
+        } catch (IllegalStateException e) {
+            //다른 스레드에서 이미 무효화된 세션
+            return false;
+        }
+    }
+
+    /**
+     * 세션 사용량 통계 조회
+     * @return 세션 통계
+     */
+    public SessionStatsDTO getStats() {
+        int live = sessions.size();
+        List<HttpSession> sample = new ArrayList<>(Math.min(live, SAMPLE_SIZE));
+        for (Tracked tracked : sessions.values()) {
+            if (sample.size() >= SAMPLE_SIZE) {
+                break;
+            }
+            sample.add(tracked.session());
+        }
+
+        long sampledBytes = 0;
+        for (HttpSession session : sample) {
+            sampledBytes += estimateBytes(session);
+        }
+        long avgBytes = sample.isEmpty() ? 0 : sampledBytes / sample.size();
+
+        return SessionStatsDTO.builder()
+                .liveSessions(live)
+                .maxSessions(maxSessions)
+                .sampledSessions(sample.size())
+                .avgAttributeBytes(avgBytes)
+                .estimatedTotalAttributeBytes(avgBytes * live)
+                .evictedSessions(evicted.sum())
+                .spilledSessions(spilled.sum())
+                .restoredSessions(restored.sum())
+                .build();
+    }
+
+    //제거할 세션 선택 후 목록에서 제거 (비로그인 → 로그인, 각각 오래 사용하지 않은 순)
+    private List<HttpSession> selectVictims(HttpSession keep) {
+        int count = sessions.size() - maxSessions + evictBatch - 1;
+        List<Candidate> anonymous = new ArrayList<>();
+        List<Candidate> members = new ArrayList<>();
+        for (Map.Entry<String, Tracked> entry : sessions.entrySet()) {
+            HttpSession session = entry.getValue().session();
+            if (session == keep) {
+                continue;
+            }
+            try {
+                Candidate candidate = new Candidate(entry.getKey(), session,
+                        session.getLastAccessedTime(), entry.getValue().sequence());
+                (session.getAttribute(MEMBER_ATTRIBUTE) == null ? anonymous : members).add(candidate);
+            } catch (IllegalStateException e) {
+                //이미 무효화된 세션 (소멸 이벤트 전)
+                sessions.remove(entry.getKey(), entry.getValue());
+            }
+        }
+        anonymous.sort(ELDEST_FIRST);
+        members.sort(ELDEST_FIRST);
+
+        List<HttpSession> victims = new ArrayList<>(Math.max(count, 0));
+        Iterator<Candidate> order = Stream.concat(anonymous.stream(), members.stream()).iterator();
+        while (victims.size() < count && order.hasNext()) {
+            Candidate candidate = order.next();
+            if (sessions.remove(candidate.id()) != null) {
+                victims.add(candidate.session());
+            }
+        }
+        return victims;
+    }
+
+    //최대 세션 수 초과로 선택된 세션 제거 (필요시 H2에 저장)
+    private void evict(HttpSession session) {
+        try {
+            SessionMember member = (SessionMember) session.getAttribute(MEMBER_ATTRIBUTE);
+            if (spillEnabled && member != null) {
+                spill(session, member);
+            }
+            session.invalidate();
+            evicted.increment();
+            log.info("최대 세션 수({}) 초과로 세션 제거", maxSessions);
+        } catch (IllegalStateException e) {
+            //이미 무효화된 세션
+        }
+    }
+
+    //제거되는 로그인 세션을 H2에 저장
+    private void spill(HttpSession session, SessionMember member) {
+        long now = System.currentTimeMillis();
+        long timeoutMillis = session.getMaxInactiveInterval() * 1000L;
+        long expiresAt = timeoutMillis > 0 ? session.getLastAccessedTime() + timeoutMillis : Long.MAX_VALUE;
+
+        sessionSpillRepository.deleteAll(sessionSpillRepository.findByExpiresAtLessThan(now));
+        sessionSpillRepository.save(SessionSpillEntity.builder()
+                .sessionId(session.getId())
+                .memberId(member.getId())
+                .username(member.getUsername())
+                .role(member.getRole())
+                .expiresAt(expiresAt)
+                .build());
+        spilled.increment();
+    }
+
+    //요청한 세션 아이디로 H2에 저장된 로그인 세션 복원
+    private SessionMember restore(HttpServletRequest request) {
+        String requestedId = request.getRequestedSessionId();
+        if (requestedId == null) {
+            return null;
+        }
+        Optional<SessionSpillEntity> spill = sessionSpillRepository.findById(requestedId);
+        if (spill.isEmpty()) {
+            return null;
+        }
+        sessionSpillRepository.delete(spill.get());
+        if (spill.get().getExpiresAt() < System.currentTimeMillis()) {
+            return null;
+        }
+
+        SessionMember member = new SessionMember(spill.get().getMemberId(),
+                spill.get().getUsername(), spill.get().getRole());
+        setMember(request, member); //새 세션 아이디로 발급
+        restored.increment();
+        log.info("저장된 세션 복원 {}", member.getUsername());
+        return member;
+    }
+
+    //세션 속성을 직렬화하여 크기 추정 (직렬화할 수 없는 속성은 제외)
+    private static long estimateBytes(HttpSession session) {
+        CountingOutputStream counter = new CountingOutputStream();
+        try {
+            for (String name : Collections.list(session.getAttributeNames())) {
+                counter.count += name.length();
+                try (ObjectOutputStream out = new ObjectOutputStream(counter)) {
+                    out.writeObject(session.getAttribute(name));
+                } catch (IOException e) {
+                    //직렬화 불가 속성
+                }
+            }
+        } catch (IllegalStateException e) {
+            //이미 무효화된 세션
+            return 0;
+        }
+        return counter.count;
+    }
+
+    //추적 중인 세션과 생성 순번
+    private record Tracked(HttpSession session, long sequence) {
+    }
+
+    //제거 후보 (선택 시점의 최근 사용 시각)
+    private record Candidate(String id, HttpSession session, long lastAccessed, long sequence) {
+    }
+
+    //쓰여진 byte 수만 세는 출력 스트림
+    private static final class CountingOutputStream extends OutputStream {
+        private long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+}
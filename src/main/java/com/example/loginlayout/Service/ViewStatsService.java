@@ -0,0 +1,89 @@
+package com.example.loginlayout.Service;
+
+import com.example.loginlayout.DTO.ViewStatsDTO;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * ViewStatsService
+ *
+ * ▶ 역할
+ * - 화면별 첫 바이트 시간(TTFB)과 전체 렌더링 시간 집계
+ *
+ * ▶ 주요 기능
+ * - record()로 렌더링 1건 기록
+ * - getStats()로 화면별 평균/최대값 제공
+ *
+ * ▶ 특징
+ * - StreamingViewFilter에서 요청 종료 시 호출
+ * - LongAdder/AtomicLong으로 잠금 없이 집계
+ * - servlet(MVC) 스택 전용, reactive 프로필에서는 비활성화
+ */
+@Service
+@Profile("!reactive")
+public class ViewStatsService {
+
+    private final Map<String, Totals> totals = new ConcurrentHashMap<>();
+
+    /**
+     * 렌더링 1건 기록
+     *
+     * @param view 화면 이름
+     * @param firstByteNanos 첫 바이트(flush)까지 걸린 시간
+     * @param totalNanos 전체 시간
+     */
+    public void record(String view, long firstByteNanos, long totalNanos) {
+        totals.computeIfAbsent(view, key -> new Totals()).add(firstByteNanos, totalNanos);
+    }
+
+    /**
+     * 화면별 통계 조회 (평균 전체 시간이 긴 순)
+     * @return 통계 목록
+     */
+    public List<ViewStatsDTO> getStats() {
+        return totals.entrySet().stream()
+                .map(entry -> entry.getValue().toDTO(entry.getKey()))
+                .sorted(Comparator.comparingDouble(ViewStatsDTO::getAvgTotalMillis).reversed())
+                .toList();
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    //화면별 누적 통계
+    private static final class Totals {
+        private final LongAdder renders = new LongAdder();
+        private final LongAdder firstByteNanos = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final AtomicLong maxFirstByteNanos = new AtomicLong();
+        private final AtomicLong maxTotalNanos = new AtomicLong();
+
+        private void add(long firstByte, long total) {
+            renders.increment();
+            firstByteNanos.add(firstByte);
+            totalNanos.add(total);
+            maxFirstByteNanos.accumulateAndGet(firstByte, Math::max);
+            maxTotalNanos.accumulateAndGet(total, Math::max);
+        }
+
+        private ViewStatsDTO toDTO(String view) {
+            long count = Math.max(renders.sum(), 1);
+            return ViewStatsDTO.builder()
+                    .view(view)
+                    .renders(renders.sum())
+                    .avgFirstByteMillis(toMillis(firstByteNanos.sum() / count))
+                    .maxFirstByteMillis(toMillis(maxFirstByteNanos.get()))
+                    .avgTotalMillis(toMillis(totalNanos.sum() / count))
+                    .maxTotalMillis(toMillis(maxTotalNanos.get()))
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,9 @@
+-- reactive 프로필 테이블 생성 (MemberEntity 와 같은 구조, JPA ddl-auto 대신 사용)
+CREATE TABLE IF NOT EXISTS member_table (
+    id         BIGINT AUTO_INCREMENT PRIMARY KEY,
+    first_name VARCHAR(50)  NOT NULL,
+    last_name  VARCHAR(50)  NOT NULL,
+    username   VARCHAR(50)  NOT NULL UNIQUE,
+    password   VARCHAR(100) NOT NULL,
+    role       VARCHAR(20)  NOT NULL
+);
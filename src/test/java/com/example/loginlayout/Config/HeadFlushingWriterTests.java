@@ -0,0 +1,89 @@
+package com.example.loginlayout.Config;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * StreamingViewFilter.HeadFlushingWriter 테스트
+ * - "</head>"가 여러 번에 나눠 쓰여도, 대소문자가 달라도 찾는지 확인
+ * - flush는 1번만 실행되는지 확인
+ */
+class HeadFlushingWriterTests {
+
+    private final FlushCountingWriter delegate = new FlushCountingWriter();
+    private final AtomicInteger callbacks = new AtomicInteger();
+
+    @Test
+    void flushesWhenHeadEndIsSplitAcrossWrites() throws IOException {
+        StreamingViewFilter.HeadFlushingWriter writer = writer(true);
+
+        writer.write("<html><head><title>index</title></he");
+        assertEquals(0, delegate.flushes);
+
+        writer.write("ad><body>".toCharArray(), 0, 9);
+        assertEquals(1, delegate.flushes);
+        assertEquals(1, callbacks.get());
+        assertEquals("<html><head><title>index</title></head><body>", delegate.toString());
+    }
+
+    @Test
+    void matchesHeadEndCaseInsensitively() throws IOException {
+        StreamingViewFilter.HeadFlushingWriter writer = writer(true);
+
+        writer.write("<HEAD></HeAd>");
+
+        assertEquals(1, delegate.flushes);
+    }
+
+    @Test
+    void matchesAfterRepeatedOpeningBracket() throws IOException {
+        StreamingViewFilter.HeadFlushingWriter writer = writer(true);
+
+        for (char c : "<</head>".toCharArray()) {
+            writer.write(c);
+        }
+
+        assertEquals(1, delegate.flushes);
+    }
+
+    @Test
+    void flushesOnlyOnce() throws IOException {
+        StreamingViewFilter.HeadFlushingWriter writer = writer(true);
+
+        writer.write("</head>");
+        writer.write("<body></head></HEAD>");
+
+        assertEquals(1, delegate.flushes);
+        assertEquals(1, callbacks.get());
+    }
+
+    @Test
+    void doesNotFlushWhenStreamingDisabled() throws IOException {
+        StreamingViewFilter.HeadFlushingWriter writer = writer(false);
+
+        writer.write("<head></head><body>");
+
+        assertEquals(0, delegate.flushes);
+        assertEquals(0, callbacks.get());
+        assertEquals("<head></head><body>", delegate.toString());
+    }
+
+    private StreamingViewFilter.HeadFlushingWriter writer(boolean flushEarly) {
+        return new StreamingViewFilter.HeadFlushingWriter(delegate, flushEarly, callbacks::incrementAndGet);
+    }
+
+    //flush 횟수를 세는 Writer
+    private static final class FlushCountingWriter extends StringWriter {
+        private int flushes;
+
+        @Override
+        public void flush() {
+            flushes++;
+        }
+    }
+}
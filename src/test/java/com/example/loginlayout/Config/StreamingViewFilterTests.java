@@ -0,0 +1,59 @@
+package com.example.loginlayout.Config;
+
+import com.example.loginlayout.Service.ViewStatsService;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.PrintWriter;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * StreamingViewFilter 테스트
+ * - "</head>" 이후 응답이 먼저 전송(commit)되는지 확인
+ * - flush 이후 렌더링 예외는 그대로 던지고(컨테이너가 연결 종료) 통계에 기록하지 않는지 확인
+ */
+class StreamingViewFilterTests {
+
+    private final ViewStatsService viewStatsService = mock(ViewStatsService.class);
+    private final StreamingViewFilter filter = new StreamingViewFilter(viewStatsService, true);
+    private final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/");
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+    @Test
+    void recordsViewAfterEarlyFlush() throws Exception {
+        filter.doFilter(request, response, render(false));
+
+        assertTrue(response.isCommitted());
+        assertEquals("<html><head></head><body>index</body></html>", response.getContentAsString());
+        verify(viewStatsService).record(eq("index"), anyLong(), anyLong());
+    }
+
+    @Test
+    void rethrowsRenderingErrorAfterEarlyFlush() {
+        IllegalStateException error = assertThrows(IllegalStateException.class,
+                () -> filter.doFilter(request, response, render(true)));
+
+        assertEquals("fragment error", error.getMessage());
+        assertTrue(response.isCommitted());
+        verify(viewStatsService, never()).record(anyString(), anyLong(), anyLong());
+    }
+
+    //layout 렌더링 흉내 (head 출력 후 본문 렌더링 중 선택적으로 예외)
+    private static FilterChain render(boolean failInBody) {
+        return (req, res) -> {
+            req.setAttribute(StreamingViewFilter.VIEW_NAME_ATTRIBUTE, "index");
+            PrintWriter writer = res.getWriter();
+            writer.write("<html><head></head>");
+            if (failInBody) {
+                throw new IllegalStateException("fragment error");
+            }
+            writer.write("<body>index</body></html>");
+            writer.flush();
+        };
+    }
+}
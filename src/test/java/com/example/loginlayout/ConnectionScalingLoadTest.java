@@ -0,0 +1,168 @@
+package com.example.loginlayout;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 기본(MVC) 프로필과 reactive 프로필의 동시 연결 수 확장 비교 (기본 test 실행에서 제외)
+ *
+ * ▶ 처리 흐름
+ * 1. 프로필마다 애플리케이션을 임의 포트로 실행 (워밍업 생략)
+ * 2. 동시 연결 단계(load.steps)마다 가상 스레드 클라이언트가 GET /login 반복
+ *    - 요청 사이에 load.think-ms 만큼 대기 (대부분 쉬고 있는 연결 흉내)
+ *    - 단계 시작 후 load.warmup-seconds 동안의 요청은 기록하지 않음
+ * 3. 단계별 요청 수, 오류 수, 처리량, 응답시간(p50/p95/p99), 최대 플랫폼 스레드 수 기록
+ * 4. 결과를 build/load-results/connection-scaling.csv 에 저장
+ *
+ * ▶ 실행
+ * - ./gradlew loadTest
+ * - ./gradlew loadTest -Pload.steps=100,500,2000 -Pload.step-seconds=30
+ *
+ * ▶ 특징
+ * - 서버와 클라이언트가 같은 JVM에서 실행되므로 스레드 수는 서버 스레드 + 클라이언트 HttpClient 스레드
+ *   (클라이언트 요청은 가상 스레드라 플랫폼 스레드 수에 포함되지 않음)
+ * - 두 프로필이 같은 H2 파일 DB를 사용하므로 순서대로 실행
+ */
+@Tag("load")
+class ConnectionScalingLoadTest {
+
+    private static final String[] PROFILES = {"default", "reactive"};
+    private static final String PATH = "/login";
+
+    private final int[] steps = Arrays.stream(System.getProperty("load.steps", "50,200,1000").split(","))
+            .map(String::trim).mapToInt(Integer::parseInt).toArray();
+    private final long stepSeconds = Long.getLong("load.step-seconds", 20);
+    private final long warmupSeconds = Long.getLong("load.warmup-seconds", 5);
+    private final long thinkMillis = Long.getLong("load.think-ms", 100);
+
+    @Test
+    void compareProfiles() throws Exception {
+        List<String> rows = new ArrayList<>();
+        rows.add("profile,concurrency,requests,errors,rps,p50_ms,p95_ms,p99_ms,peak_threads");
+
+        for (String profile : PROFILES) {
+            SpringApplicationBuilder builder = new SpringApplicationBuilder(LoginlayoutApplication.class)
+                    .properties("server.port=0", "app.warmup.enabled=false",
+                            "spring.devtools.restart.enabled=false");
+            if (!"default".equals(profile)) {
+                builder.profiles(profile);
+            }
+            try (ConfigurableApplicationContext context = builder.run()) {
+                String port = context.getEnvironment().getProperty("local.server.port");
+                URI uri = URI.create("http://localhost:" + port + PATH);
+                for (int concurrency : steps) {
+                    StepResult result = runStep(uri, concurrency);
+                    String row = profile + "," + concurrency + "," + result.toCsv();
+                    System.out.println(row);
+                    rows.add(row);
+                }
+            }
+        }
+
+        Path output = Path.of("build", "load-results", "connection-scaling.csv");
+        Files.createDirectories(output.getParent());
+        Files.write(output, rows);
+        System.out.println("결과 저장: " + output.toAbsolutePath());
+    }
+
+    //동시 연결 concurrency개로 stepSeconds 동안 요청
+    private StepResult runStep(URI uri, int concurrency) throws Exception {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        AtomicInteger peakThreads = new AtomicInteger(threads.getThreadCount());
+        AtomicInteger errors = new AtomicInteger();
+
+        long start = System.nanoTime();
+        long recordFrom = start + TimeUnit.SECONDS.toNanos(warmupSeconds);
+        long end = recordFrom + TimeUnit.SECONDS.toNanos(stepSeconds);
+
+        ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor();
+        sampler.scheduleAtFixedRate(() -> peakThreads.accumulateAndGet(threads.getThreadCount(), Math::max),
+                0, 100, TimeUnit.MILLISECONDS);
+
+        List<Future<List<Long>>> clients = new ArrayList<>(concurrency);
+        try (HttpClient client = HttpClient.newBuilder()
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+             ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            HttpRequest request = HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(30)).GET().build();
+            for (int i = 0; i < concurrency; i++) {
+                clients.add(executor.submit(() -> requestLoop(client, request, recordFrom, end, errors)));
+            }
+            List<Long> latencies = new ArrayList<>();
+            for (Future<List<Long>> future : clients) {
+                latencies.addAll(future.get());
+            }
+            return new StepResult(latencies, errors.get(), stepSeconds, peakThreads.get());
+        } finally {
+            sampler.shutdownNow();
+        }
+    }
+
+    //한 연결의 요청 반복, 기록 구간의 응답시간(ns) 반환
+    private List<Long> requestLoop(HttpClient client, HttpRequest request, long recordFrom, long end,
+                                   AtomicInteger errors) throws InterruptedException {
+        List<Long> latencies = new ArrayList<>();
+        while (System.nanoTime() < end) {
+            long sent = System.nanoTime();
+            boolean ok;
+            try {
+                ok = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200;
+            } catch (IOException e) {
+                ok = false;
+            }
+            long received = System.nanoTime();
+            if (sent >= recordFrom) {
+                if (ok) {
+                    latencies.add(received - sent);
+                } else {
+                    errors.incrementAndGet();
+                }
+            }
+            Thread.sleep(thinkMillis);
+        }
+        return latencies;
+    }
+
+    //단계 1개의 측정 결과
+    private record StepResult(List<Long> latencies, int errors, long seconds, int peakThreads) {
+
+        private String toCsv() {
+            long[] sorted = latencies.stream().mapToLong(Long::longValue).sorted().toArray();
+            assertTrue(sorted.length > 0, "성공한 요청이 없음");
+            return String.format(Locale.ROOT, "%d,%d,%.1f,%.2f,%.2f,%.2f,%d",
+                    sorted.length, errors, (double) sorted.length / seconds,
+                    percentile(sorted, 0.50), percentile(sorted, 0.95), percentile(sorted, 0.99), peakThreads);
+        }
+
+        private static double percentile(long[] sorted, double ratio) {
+            int index = (int) Math.ceil(ratio * sorted.length) - 1;
+            return sorted[Math.max(index, 0)] / 1_000_000.0;
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.loginlayout;
+
+import com.example.loginlayout.Config.RoleAuthorizationManager;
+import com.example.loginlayout.Constant.RoleType;
+import com.example.loginlayout.DTO.SessionMember;
+import com.example.loginlayout.DTO.SessionMemberAuthentication;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.access.hierarchicalroles.RoleHierarchyImpl;
+import org.springframework.security.authorization.AuthorityAuthorizationManager;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * RoleType 권한 판단 비용 비교 (기본 test 실행에서 제외)
+ * - 같은 인증 정보(ADMIN 세션 회원)로 "/user/**" 규칙 판단 비용을 비교
+ *   1. 기본 방식 : AuthorityAuthorizationManager.hasRole("USER") + RoleHierarchyImpl
+ *   2. RoleType  : RoleAuthorizationManager.atLeast(RoleType.USER)
+ * - 두 방식 모두 요청마다 호출되는 authorize(인증 정보, 요청 컨텍스트)로 측정
+ * - 실행: ./gradlew benchmark
+ */
+@Tag("benchmark")
+class RoleTypeBenchmark {
+
+    private static final int WARMUP = 200_000;
+    private static final int ITERATIONS = 2_000_000;
+    private static final int ROUNDS = 5;
+
+    @Test
+    void compareCostPerRequest() {
+        AuthorityAuthorizationManager<RequestAuthorizationContext> hierarchyManager =
+                AuthorityAuthorizationManager.hasRole("USER");
+        hierarchyManager.setRoleHierarchy(RoleHierarchyImpl.fromHierarchy(
+                "ROLE_ADMIN > ROLE_MANAGER\nROLE_MANAGER > ROLE_USER"));
+        AuthorizationManager<RequestAuthorizationContext> roleTypeManager =
+                RoleAuthorizationManager.atLeast(RoleType.USER);
+
+        Authentication admin = new SessionMemberAuthentication(new SessionMember(1L, "admin", RoleType.ADMIN));
+        RequestAuthorizationContext context =
+                new RequestAuthorizationContext(new MockHttpServletRequest("GET", "/user/list"));
+
+        BooleanSupplier hierarchyCheck = () -> hierarchyManager.authorize(() -> admin, context).isGranted();
+        BooleanSupplier roleTypeCheck = () -> roleTypeManager.authorize(() -> admin, context).isGranted();
+
+        //두 방식을 번갈아 워밍업/측정하여 실행 순서에 따른 차이를 줄임
+        run(hierarchyCheck, WARMUP);
+        run(roleTypeCheck, WARMUP);
+        long hierarchyNanos = 0;
+        long roleTypeNanos = 0;
+        for (int round = 0; round < ROUNDS; round++) {
+            hierarchyNanos += run(hierarchyCheck, ITERATIONS);
+            roleTypeNanos += run(roleTypeCheck, ITERATIONS);
+        }
+
+        long total = (long) ROUNDS * ITERATIONS;
+        System.out.printf("hasRole + RoleHierarchyImpl : %.1f ns/request%n", (double) hierarchyNanos / total);
+        System.out.printf("RoleAuthorizationManager    : %.1f ns/request%n", (double) roleTypeNanos / total);
+    }
+
+    private static long run(BooleanSupplier check, int iterations) {
+        long start = System.nanoTime();
+        int granted = 0;
+        for (int i = 0; i < iterations; i++) {
+            if (check.getAsBoolean()) {
+                granted++;
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+        assertEquals(iterations, granted);
+        return elapsed;
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.loginlayout;
+
+import com.example.loginlayout.Config.RoleAuthorizationManager;
+import com.example.loginlayout.Constant.RoleType;
+import com.example.loginlayout.DTO.SessionMember;
+import com.example.loginlayout.DTO.SessionMemberAuthentication;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * RoleType 권한 상속 판단 테스트
+ * - 비트(mask) 비교가 ADMIN > MANAGER > USER 상속관계와 일치하는지 확인
+ * - 권한 목록에는 자신의 권한만 있는지 확인 (화면의 hasRole 의미 유지)
+ * - 세션에서 복원한 인증 정보가 권한 목록을 복사하지 않는지 확인
+ */
+class RoleTypeTests {
+
+    @Test
+    void hierarchyMatchesRoleType() {
+        assertTrue(RoleType.ADMIN.includes(RoleType.USER));
+        assertTrue(RoleType.ADMIN.includes(RoleType.MANAGER));
+        assertTrue(RoleType.MANAGER.includes(RoleType.USER));
+        assertFalse(RoleType.USER.includes(RoleType.MANAGER));
+        assertFalse(RoleType.MANAGER.includes(RoleType.ADMIN));
+        assertSame(RoleType.ADMIN, RoleType.fromAuthority("ROLE_ADMIN"));
+        assertNull(RoleType.fromAuthority("ROLE_X"));
+    }
+
+    @Test
+    void authoritiesContainOnlyOwnRole() {
+        for (RoleType role : RoleType.values()) {
+            assertEquals(1, role.getAuthorities().size());
+            assertEquals(role.getAuthority(), role.getAuthorities().get(0).getAuthority());
+        }
+        assertThrows(UnsupportedOperationException.class,
+                () -> RoleType.USER.getAuthorities().add(new SimpleGrantedAuthority("ROLE_X")));
+    }
+
+    @Test
+    void grantsRequiredRoleOrHigher() {
+        Authentication manager = UsernamePasswordAuthenticationToken.authenticated(
+                "manager", null, RoleType.MANAGER.getAuthorities());
+        Authentication anonymous = new AnonymousAuthenticationToken(
+                "key", "anonymous", RoleType.ADMIN.getAuthorities());
+
+        assertTrue(RoleAuthorizationManager.isGranted(manager, RoleType.USER));
+        assertTrue(RoleAuthorizationManager.isGranted(manager, RoleType.MANAGER));
+        assertFalse(RoleAuthorizationManager.isGranted(manager, RoleType.ADMIN));
+        assertFalse(RoleAuthorizationManager.isGranted(anonymous, RoleType.USER));
+        assertFalse(RoleAuthorizationManager.isGranted(null, RoleType.USER));
+    }
+
+    @Test
+    void sessionAuthenticationSharesRoleAuthorities() {
+        SessionMemberAuthentication authentication =
+                new SessionMemberAuthentication(new SessionMember(1L, "manager", RoleType.MANAGER));
+
+        assertTrue(authentication.isAuthenticated());
+        assertSame(RoleType.MANAGER.getAuthorities(), authentication.getAuthorities());
+        assertEquals("manager", authentication.getName());
+        assertTrue(RoleAuthorizationManager.isGranted(authentication, RoleType.USER));
+        assertFalse(RoleAuthorizationManager.isGranted(authentication, RoleType.ADMIN));
+    }
+}
@@ -0,0 +1,160 @@
+package com.example.loginlayout;
+
+import com.example.loginlayout.Constant.RoleType;
+import com.example.loginlayout.DTO.SessionMember;
+import com.example.loginlayout.Entity.SessionSpillEntity;
+import com.example.loginlayout.Repository.SessionSpillRepository;
+import com.example.loginlayout.Service.SessionTrackingService;
+import jakarta.servlet.http.HttpSessionEvent;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpSession;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * SessionTrackingService 테스트
+ * - 로그인 시 세션 아이디 변경 후에도 같은 세션을 추적하는지 확인
+ * - 최대 세션 수 초과 시 비로그인 세션 → 로그인 세션(최근 사용 시각 순) 순서로 제거되는지 확인
+ * - 제거된 로그인 세션의 저장(spill)/복원(restore) 확인
+ */
+class SessionTrackingServiceTests {
+
+    private final SessionSpillRepository sessionSpillRepository = mock(SessionSpillRepository.class);
+    //세션 최근 사용 시각 (같은 ms에 만든 세션도 순서가 정해지도록 1씩 증가)
+    private long clock;
+
+    @Test
+    void loginAfterRedirectKeepsTrackingChangedSessionId() {
+        SessionTrackingService service = new SessionTrackingService(sessionSpillRepository, 2, false);
+        SessionMember member = member(1L, "user1");
+
+        //GET /login → 세션 생성, POST /login → 세션 아이디 변경 후 회원 저장
+        MockHttpSession session = open(service);
+        String loginPageId = session.getId();
+        login(service, session, member);
+        assertNotEquals(loginPageId, session.getId());
+
+        //로그인 성공 후 redirect된 GET / 요청
+        assertEquals(member, service.getMember(request(session)));
+
+        //비로그인 세션이 늘어나도 로그인 세션은 유지
+        MockHttpSession first = open(service);
+        MockHttpSession second = open(service);
+        assertFalse(session.isInvalid());
+        assertTrue(first.isInvalid());
+        assertFalse(second.isInvalid());
+
+        //새 아이디로 소멸 이벤트가 와도 목록에서 제거됨
+        service.sessionDestroyed(new HttpSessionEvent(session));
+        assertEquals(1, service.getStats().getLiveSessions());
+    }
+
+    @Test
+    void anonymousSessionsAreEvictedBeforeMembers() {
+        SessionTrackingService service = new SessionTrackingService(sessionSpillRepository, 3, false);
+        MockHttpSession member = open(service);
+        login(service, member, member(1L, "user1"));
+
+        MockHttpSession[] anonymous = new MockHttpSession[5];
+        for (int i = 0; i < anonymous.length; i++) {
+            anonymous[i] = open(service);
+        }
+
+        assertFalse(member.isInvalid());
+        assertTrue(anonymous[0].isInvalid());
+        assertTrue(anonymous[1].isInvalid());
+        assertTrue(anonymous[2].isInvalid());
+        assertFalse(anonymous[3].isInvalid());
+        assertFalse(anonymous[4].isInvalid());
+        assertEquals(3, service.getStats().getLiveSessions());
+        assertEquals(3, service.getStats().getEvictedSessions());
+    }
+
+    @Test
+    void membersAreEvictedInLeastRecentlyUsedOrder() {
+        SessionTrackingService service = new SessionTrackingService(sessionSpillRepository, 2, false);
+        TimedSession first = open(service);
+        login(service, first, member(1L, "user1"));
+        TimedSession second = open(service);
+        login(service, second, member(2L, "user2"));
+
+        //first를 최근에 사용 → second가 가장 오래 사용하지 않은 세션
+        first.lastAccessed = ++clock;
+        MockHttpSession anonymous = open(service);
+
+        assertFalse(first.isInvalid());
+        assertTrue(second.isInvalid());
+        assertFalse(anonymous.isInvalid());
+    }
+
+    @Test
+    void evictedMemberIsSpilledAndRestored() {
+        SessionTrackingService service = new SessionTrackingService(sessionSpillRepository, 1, true);
+        SessionMember member = member(1L, "user1");
+        MockHttpSession session = open(service);
+        login(service, session, member);
+        String sessionId = session.getId();
+
+        open(service);
+        assertTrue(session.isInvalid());
+
+        ArgumentCaptor<SessionSpillEntity> saved = ArgumentCaptor.forClass(SessionSpillEntity.class);
+        verify(sessionSpillRepository).save(saved.capture());
+        assertEquals(sessionId, saved.getValue().getSessionId());
+        assertEquals("user1", saved.getValue().getUsername());
+
+        //제거된 세션 아이디 쿠키로 다시 요청
+        when(sessionSpillRepository.findById(sessionId)).thenReturn(Optional.of(saved.getValue()));
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRequestedSessionId(sessionId);
+
+        assertEquals(member, service.getMember(request));
+        assertEquals(member, request.getSession(false).getAttribute(SessionTrackingService.MEMBER_ATTRIBUTE));
+        verify(sessionSpillRepository).delete(saved.getValue());
+        assertEquals(1, service.getStats().getSpilledSessions());
+        assertEquals(1, service.getStats().getRestoredSessions());
+    }
+
+    private TimedSession open(SessionTrackingService service) {
+        TimedSession session = new TimedSession(++clock);
+        service.sessionCreated(new HttpSessionEvent(session));
+        return session;
+    }
+
+    //세션 고정 공격 방지(아이디 변경) 후 회원 저장 → Spring Security 로그인과 같은 순서
+    private static void login(SessionTrackingService service, MockHttpSession session, SessionMember member) {
+        String oldId = session.getId();
+        session.changeSessionId();
+        service.sessionIdChanged(new HttpSessionEvent(session), oldId);
+        service.setMember(request(session), member);
+    }
+
+    private static MockHttpServletRequest request(MockHttpSession session) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setSession(session);
+        return request;
+    }
+
+    private static SessionMember member(Long id, String username) {
+        return new SessionMember(id, username, RoleType.USER);
+    }
+
+    //최근 사용 시각을 테스트에서 정하는 세션 (컨테이너가 요청마다 갱신하는 값)
+    private static final class TimedSession extends MockHttpSession {
+        private long lastAccessed;
+
+        private TimedSession(long lastAccessed) {
+            this.lastAccessed = lastAccessed;
+        }
+
+        @Override
+        public long getLastAccessedTime() {
+            return lastAccessed;
+        }
+    }
+}